@@ -10,10 +10,13 @@ package com.payoneer.checkout;
 
 import com.payoneer.checkout.localization.LocalLocalizationHolder;
 import com.payoneer.checkout.localization.Localization;
+import com.payoneer.checkout.network.HttpTransport;
 import com.payoneer.checkout.ui.screen.list.PaymentListActivity;
 import com.payoneer.checkout.ui.screen.payment.ProcessPaymentActivity;
+import com.payoneer.checkout.ui.session.PaymentSessionPrefetcher;
 
 import android.app.Activity;
+import android.content.Context;
 import android.content.Intent;
 
 /**
@@ -29,7 +32,8 @@ public final class Checkout {
     }
 
     /**
-     * Create a new Checkout class from the provided CheckoutConfiguration
+     * Create a new Checkout class from the provided CheckoutConfiguration.
+     * The keep alive setting of the configuration, when explicitly set, is applied to the current HttpTransport.
      *
      * @param checkoutConfiguration contains the listURL and theming
      * @return newly created Checkout Object
@@ -38,6 +42,9 @@ public final class Checkout {
         if (checkoutConfiguration == null) {
             throw new IllegalArgumentException("checkoutConfiguration cannot be null");
         }
+        if (checkoutConfiguration.hasKeepAlive()) {
+            HttpTransport.getInstance().setKeepAlive(checkoutConfiguration.isKeepAlive());
+        }
         return new Checkout(checkoutConfiguration);
     }
 
@@ -50,6 +57,20 @@ public final class Checkout {
         return checkoutConfiguration;
     }
 
+    /**
+     * Start loading the payment session in the background, i.e. as soon as the listURL is known and before the
+     * PaymentList is shown. The Activity started later for the same listURL uses the prefetched payment session
+     * instead of loading it again. Calling this method is optional.
+     *
+     * @param context used to load the payment session, only its application context is retained
+     */
+    public void prefetch(final Context context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context may not be null");
+        }
+        PaymentSessionPrefetcher.getInstance().prefetch(checkoutConfiguration, context.getApplicationContext());
+    }
+
     /**
      * Charge the PresetAccount, if no PresetAccount is set in the ListResult then an error will be returned.
      *
@@ -44,17 +44,24 @@ public final class CheckoutConfiguration implements Parcelable {
      * The orientation of the screens, by default it is in locked mode
      */
     private final int orientation;
+    /**
+     * Should connections to the Payment API be kept alive and reused, null when not set by the application
+     */
+    private final Boolean keepAlive;
 
     private CheckoutConfiguration(final Builder builder) {
         this.listURL = builder.listURL;
         this.checkoutTheme = builder.checkoutTheme;
         this.orientation = builder.orientation;
+        this.keepAlive = builder.keepAlive;
     }
 
     private CheckoutConfiguration(final Parcel in) {
         listURL = (URL) in.readSerializable();
         checkoutTheme = in.readParcelable(CheckoutTheme.class.getClassLoader());
         orientation = in.readInt();
+        int keepAliveValue = in.readInt();
+        keepAlive = keepAliveValue == -1 ? null : keepAliveValue == 1;
     }
 
     public static Builder createBuilder(final URL listURL) {
@@ -69,6 +76,7 @@ public final class CheckoutConfiguration implements Parcelable {
         dest.writeSerializable(listURL);
         dest.writeParcelable(checkoutTheme, flags);
         dest.writeInt(orientation);
+        dest.writeInt(keepAlive == null ? -1 : (keepAlive ? 1 : 0));
     }
 
     @Override
@@ -88,6 +96,24 @@ public final class CheckoutConfiguration implements Parcelable {
         return orientation;
     }
 
+    /**
+     * Check if the application has explicitly set whether connections should be kept alive
+     *
+     * @return true when keep alive has been set in the builder, false otherwise
+     */
+    public boolean hasKeepAlive() {
+        return keepAlive != null;
+    }
+
+    /**
+     * Should connections to the Payment API be kept alive, connections are kept alive when this has not been set
+     *
+     * @return true when connections should be kept alive, false otherwise
+     */
+    public boolean isKeepAlive() {
+        return keepAlive == null || keepAlive;
+    }
+
     @NonNull
     @Override
     public String toString() {
@@ -99,7 +125,8 @@ public final class CheckoutConfiguration implements Parcelable {
         if (checkoutTheme != null) {
             builder.append("theme=").append(checkoutTheme).append(", ");
         }
-        builder.append("orientation=").append(orientation);
+        builder.append("orientation=").append(orientation).append(", ");
+        builder.append("keepAlive=").append(keepAlive);
         builder.append("]");
         return builder.toString();
     }
@@ -108,6 +135,7 @@ public final class CheckoutConfiguration implements Parcelable {
         private final URL listURL;
         private int orientation;
         private CheckoutTheme checkoutTheme;
+        private Boolean keepAlive;
 
         /**
          * Create a new default Builder for creating CheckoutConfiguration instances
@@ -162,6 +190,20 @@ public final class CheckoutConfiguration implements Parcelable {
             return this;
         }
 
+        /**
+         * Set if connections to the Payment API should be kept alive and reused between requests.
+         * Reusing connections avoids a new TCP and TLS handshake for every request, it is enabled by default.
+         * When set, the setting is applied once to the current HttpTransport when the Checkout is created.
+         * When not set, the keep alive setting of the current HttpTransport is left unchanged.
+         *
+         * @param keepAlive true to keep connections alive, false to close them after every request
+         * @return this builder
+         */
+        public Builder keepAlive(final boolean keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
         public CheckoutConfiguration build() {
             return new CheckoutConfiguration(this);
         }
@@ -8,11 +8,9 @@
 
 package com.payoneer.checkout.account;
 
-import java.util.concurrent.Callable;
-
 import com.payoneer.checkout.core.PaymentException;
+import com.payoneer.checkout.core.WorkerFuture;
 import com.payoneer.checkout.core.WorkerSubscriber;
-import com.payoneer.checkout.core.WorkerTask;
 import com.payoneer.checkout.core.Workers;
 import com.payoneer.checkout.model.OperationResult;
 import com.payoneer.checkout.network.PaymentConnection;
@@ -26,7 +24,7 @@ import android.content.Context;
 public final class DeleteAccountService {
     private final PaymentConnection paymentConnection;
     private DeleteAccountListener listener;
-    private WorkerTask<OperationResult> task;
+    private WorkerFuture<OperationResult> task;
 
     /**
      * Create a new DeleteAccountService
@@ -45,11 +43,16 @@ public final class DeleteAccountService {
     }
 
     /**
-     * Stop and unsubscribe from the task that is currently active in this service.
+     * Stop and unsubscribe from the task that is currently active in this service, a deletion which has not been
+     * started yet is cancelled. A deletion already being sent is not aborted since the Payment API may still
+     * complete it, i.e. when the Activity is only paused.
      */
     public void stop() {
-        WorkerTask.unsubscribe(task);
-        task = null;
+        if (task != null) {
+            task.unsubscribe();
+            task.cancel(false);
+            task = null;
+        }
     }
 
     /**
@@ -58,7 +61,7 @@ public final class DeleteAccountService {
      * @return true when active, false otherwise
      */
     public boolean isActive() {
-        return WorkerTask.isSubscribed(task);
+        return task != null && task.isSubscribed();
     }
 
     /**
@@ -72,12 +75,8 @@ public final class DeleteAccountService {
         if (isActive()) {
             throw new IllegalStateException("PaymentAccountService is already active, stop first");
         }
-        task = WorkerTask.fromCallable(new Callable<OperationResult>() {
-            @Override
-            public OperationResult call() throws PaymentException {
-                return asyncDeleteAccount(account, applicationContext);
-            }
-        });
+        task = WorkerFuture.supplyAsync(() -> asyncDeleteAccount(account, applicationContext),
+            Workers.getInstance().forNetworkTasks());
         task.subscribe(new WorkerSubscriber<OperationResult>() {
             @Override
             public void onSuccess(OperationResult result) {
@@ -97,7 +96,6 @@ public final class DeleteAccountService {
                 }
             }
         });
-        Workers.getInstance().forNetworkTasks().execute(task);
     }
 
     private OperationResult asyncDeleteAccount(final DeleteAccount account, final Context context) throws PaymentException {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Dispatcher delivering the results of completed WorkerTasks and WorkerFutures on the main UI Thread.
+ * Deliveries dispatched while a message is pending are queued and run by the same main thread message,
+ * a burst of completed tasks therefore posts a single message to the main Looper.
+ */
+final class MainThreadDispatcher {
+
+    private static volatile MainThreadDispatcher instance;
+
+    private final Queue<Runnable> deliveries = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable drain = this::drain;
+    private final Executor mainExecutor;
+
+    /**
+     * Construct a new MainThreadDispatcher
+     *
+     * @param mainExecutor executing the delivery messages on the main UI Thread
+     */
+    MainThreadDispatcher(final Executor mainExecutor) {
+        this.mainExecutor = mainExecutor;
+    }
+
+    /**
+     * Get the instance of this MainThreadDispatcher
+     *
+     * @return the instance of this MainThreadDispatcher
+     */
+    static MainThreadDispatcher getInstance() {
+        MainThreadDispatcher dispatcher = instance;
+        if (dispatcher == null) {
+            synchronized (MainThreadDispatcher.class) {
+                dispatcher = instance;
+                if (dispatcher == null) {
+                    Handler handler = new Handler(Looper.getMainLooper());
+                    dispatcher = new MainThreadDispatcher(handler::post);
+                    instance = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Set the instance of this MainThreadDispatcher, used for testing
+     *
+     * @param newInstance the new instance or null to create the default instance when it is needed
+     */
+    static void setInstance(final MainThreadDispatcher newInstance) {
+        instance = newInstance;
+    }
+
+    /**
+     * Dispatch the delivery of a completed task, the delivery is run on the main UI Thread
+     *
+     * @param delivery delivering the result of the task to its subscriber
+     */
+    void dispatch(final Runnable delivery) {
+        deliveries.add(delivery);
+        if (scheduled.compareAndSet(false, true)) {
+            mainExecutor.execute(drain);
+        }
+    }
+
+    private void drain() {
+        // Tasks completing from now on schedule a new message
+        scheduled.set(false);
+        Runnable delivery;
+        while ((delivery = deliveries.poll()) != null) {
+            delivery.run();
+        }
+    }
+}
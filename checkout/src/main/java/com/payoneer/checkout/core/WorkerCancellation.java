@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cancellation state of a WorkerFuture task running on a worker thread.
+ * Blocking calls which do not respond to thread interrupts, i.e. reading from an HttpURLConnection, set a cancel
+ * listener on the current thread which aborts the blocking call when the task is cancelled.
+ */
+public final class WorkerCancellation {
+
+    private final static ThreadLocal<WorkerCancellation> current = new ThreadLocal<>();
+
+    // guarded by this WorkerCancellation
+    private boolean cancelled;
+    private Runnable listener;
+
+    /**
+     * Set the cancel listener of the task running on the current thread, the listener replaces a previously set listener.
+     * Nothing is set when the current thread is not running a cancellable task.
+     *
+     * @param listener called when the task is cancelled or null to remove the listener
+     * @return false when the task has already been cancelled, true otherwise
+     */
+    public static boolean setCancelListener(final Runnable listener) {
+        WorkerCancellation cancellation = current.get();
+        if (cancellation == null) {
+            return true;
+        }
+        synchronized (cancellation) {
+            if (cancellation.cancelled) {
+                return false;
+            }
+            cancellation.listener = listener;
+            return true;
+        }
+    }
+
+    /**
+     * Call the Callable on the current thread with this WorkerCancellation as the cancellation state of the current thread
+     *
+     * @param callable to be called
+     * @return the result of the callable
+     */
+    <V> V call(final Callable<V> callable) throws Exception {
+        current.set(this);
+        try {
+            return callable.call();
+        } finally {
+            current.remove();
+            synchronized (this) {
+                listener = null;
+            }
+        }
+    }
+
+    /**
+     * Cancel the task, the cancel listener is called while the task is still running.
+     * The listener is called on the cancelling thread, which may be the main UI Thread, and outside the lock of
+     * this WorkerCancellation. Listeners performing blocking I/O must hand it over to a background thread.
+     */
+    void cancel() {
+        Runnable cancelListener;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            cancelListener = listener;
+            listener = null;
+        }
+        if (cancelListener != null) {
+            cancelListener.run();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Bounded thread pool executing the background tasks of one kind, i.e. network, image or localization tasks.
+ * Threads are named after the pool and the executor measures how long tasks wait in the queue and how long they run.
+ * The pool sizes can be changed at runtime with setCorePoolSize and setMaximumPoolSize.
+ */
+public final class WorkerExecutor extends ThreadPoolExecutor {
+
+    private final String name;
+    private final WorkerHistogram queueLatency = new WorkerHistogram();
+    private final WorkerHistogram executionLatency = new WorkerHistogram();
+    private final Map<Runnable, Long> queuedTimes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+
+    /**
+     * Construct a new WorkerExecutor
+     *
+     * @param name of this executor, used to name the threads
+     * @param threads maximum number of threads
+     * @param threadPriority Java priority of the threads
+     * @param keepAliveSeconds time idle threads are kept alive
+     * @param queue holding the tasks before they are executed
+     * @param handler for tasks which cannot be queued
+     */
+    WorkerExecutor(final String name, final int threads, final int threadPriority, final long keepAliveSeconds,
+        final BlockingQueue<Runnable> queue, final RejectedExecutionHandler handler) {
+        super(threads, threads, keepAliveSeconds, TimeUnit.SECONDS, queue, new WorkerThreadFactory(name, threadPriority), handler);
+        this.name = name;
+        allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the name of this WorkerExecutor
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of tasks waiting in the queue
+     *
+     * @return the queue length
+     */
+    public int getQueueLength() {
+        return getQueue().size();
+    }
+
+    /**
+     * Get the histogram of the time in milliseconds tasks waited in the queue before they were started
+     *
+     * @return the queue latency histogram
+     */
+    public WorkerHistogram getQueueLatency() {
+        return queueLatency;
+    }
+
+    /**
+     * Get the histogram of the time in milliseconds tasks were running
+     *
+     * @return the execution latency histogram
+     */
+    public WorkerHistogram getExecutionLatency() {
+        return executionLatency;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (command != null) {
+            queuedTimes.put(command, System.nanoTime());
+        }
+        super.execute(command);
+    }
+
+    @Override
+    public boolean remove(final Runnable task) {
+        queuedTimes.remove(task);
+        return super.remove(task);
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable runnable) {
+        long now = System.nanoTime();
+        Long queued = queuedTimes.remove(runnable);
+        if (queued != null) {
+            queueLatency.record(TimeUnit.NANOSECONDS.toMillis(now - queued));
+        }
+        startTime.set(now);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+        Long started = startTime.get();
+        if (started != null) {
+            executionLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            startTime.remove();
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WorkerExecutor{name=" + name + ", active=" + getActiveCount() + ", queued=" + getQueueLength()
+            + ", queueLatency=" + queueLatency + ", executionLatency=" + executionLatency + "}";
+    }
+
+    /**
+     * ThreadFactory creating named threads with the priority of the pool
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final String name;
+        private final int priority;
+
+        WorkerThreadFactory(final String name, final int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public Thread newThread(@NonNull final Runnable runnable) {
+            Thread thread = new Thread(runnable, "checkout-" + name + "-" + count.incrementAndGet());
+            thread.setPriority(priority);
+            return thread;
+        }
+    }
+}
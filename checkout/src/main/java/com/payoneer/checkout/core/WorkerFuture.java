@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The result of an asynchronous computation which can be composed with other WorkerFutures.
+ * Functions passed to thenApply and thenCompose are called on the thread completing the previous WorkerFuture and should
+ * be short, longer steps are started with supplyAsync inside thenCompose. Cancelling a WorkerFuture also cancels the
+ * WorkerFutures and tasks it depends on, including the task running on a worker thread. When the task is interrupted,
+ * blocking calls registered with WorkerCancellation, i.e. HTTP requests, are aborted as well.
+ * <p>
+ * The result is delivered to the WorkerSubscriber on the main UI Thread, the WorkerSubscriber must be subscribed or
+ * unsubscribed on the main UI Thread. A cancelled WorkerFuture does not notify its subscriber.
+ */
+public final class WorkerFuture<V> implements Future<V> {
+
+    private final static int PENDING = 0;
+    private final static int SUCCESS = 1;
+    private final static int FAILURE = 2;
+    private final static int CANCELLED = 3;
+
+    // the state, value, failure, callbacks and sources are guarded by this WorkerFuture
+    private int state;
+    private V value;
+    private Throwable failure;
+    private List<Runnable> callbacks = new ArrayList<>();
+    private final List<Future<?>> sources = new ArrayList<>();
+
+    private volatile WorkerSubscriber<V> subscriber;
+    // only accessed from the main thread
+    private boolean delivered;
+
+    private WorkerFuture() {
+    }
+
+    /**
+     * Create a new WorkerFuture computing its value by executing the Callable with the Executor
+     *
+     * @param callable computing the value
+     * @param executor executing the Callable
+     * @return newly created WorkerFuture
+     */
+    public static <V> WorkerFuture<V> supplyAsync(final Callable<V> callable, final Executor executor) {
+        final WorkerFuture<V> future = new WorkerFuture<>();
+        final WorkerCancellation cancellation = new WorkerCancellation();
+        FutureTask<V> task = new FutureTask<V>(() -> cancellation.call(callable)) {
+            @Override
+            public boolean cancel(final boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled && mayInterruptIfRunning) {
+                    // abort blocking calls which ignore the interrupt
+                    cancellation.cancel();
+                }
+                return cancelled;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    future.complete(get());
+                } catch (ExecutionException e) {
+                    future.fail(e.getCause());
+                } catch (CancellationException e) {
+                    future.cancel(false);
+                } catch (InterruptedException e) {
+                    future.fail(e);
+                }
+            }
+        };
+        future.addSource(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            future.fail(e);
+        }
+        return future;
+    }
+
+    /**
+     * Create a WorkerFuture which has already been completed with the value
+     *
+     * @param value of the WorkerFuture
+     * @return newly created WorkerFuture
+     */
+    public static <V> WorkerFuture<V> completed(final V value) {
+        WorkerFuture<V> future = new WorkerFuture<>();
+        future.complete(value);
+        return future;
+    }
+
+    /**
+     * Create a WorkerFuture which has already failed with the cause
+     *
+     * @param cause of the failure
+     * @return newly created WorkerFuture
+     */
+    public static <V> WorkerFuture<V> failed(final Throwable cause) {
+        WorkerFuture<V> future = new WorkerFuture<>();
+        future.fail(cause);
+        return future;
+    }
+
+    /**
+     * Create a WorkerFuture which completes when all given WorkerFutures have completed. When one of them fails or is
+     * cancelled, the returned WorkerFuture fails or is cancelled as well and the other WorkerFutures are cancelled.
+     *
+     * @param futures to wait for
+     * @return newly created WorkerFuture
+     */
+    public static WorkerFuture<Void> allOf(final WorkerFuture<?>... futures) {
+        final WorkerFuture<Void> all = new WorkerFuture<>();
+        if (futures.length == 0) {
+            all.complete(null);
+            return all;
+        }
+        final AtomicInteger remaining = new AtomicInteger(futures.length);
+        for (final WorkerFuture<?> future : futures) {
+            all.addSource(future);
+            future.whenDone(() -> {
+                if (future.isCancelled()) {
+                    all.cancel(false);
+                } else if (future.getFailure() != null) {
+                    if (all.fail(future.getFailure())) {
+                        all.cancelSources(true);
+                    }
+                } else if (remaining.decrementAndGet() == 0) {
+                    all.complete(null);
+                }
+            });
+        }
+        return all;
+    }
+
+    /**
+     * Create a WorkerFuture with the value of this WorkerFuture transformed by the function
+     *
+     * @param function transforming the value
+     * @return newly created WorkerFuture
+     */
+    public <R> WorkerFuture<R> thenApply(final Function<? super V, ? extends R> function) {
+        final WorkerFuture<R> next = new WorkerFuture<>();
+        next.addSource(this);
+        whenDone(() -> {
+            if (!next.copyFailure(this)) {
+                try {
+                    next.complete(function.apply(getValue()));
+                } catch (Exception e) {
+                    next.fail(e);
+                }
+            }
+        });
+        return next;
+    }
+
+    /**
+     * Create a WorkerFuture with the value of the WorkerFuture returned by the function for the value of this WorkerFuture
+     *
+     * @param function returning the WorkerFuture of the next step
+     * @return newly created WorkerFuture
+     */
+    public <R> WorkerFuture<R> thenCompose(final AsyncFunction<? super V, R> function) {
+        final WorkerFuture<R> next = new WorkerFuture<>();
+        next.addSource(this);
+        whenDone(() -> {
+            if (next.copyFailure(this)) {
+                return;
+            }
+            final WorkerFuture<R> inner;
+            try {
+                inner = function.apply(getValue());
+            } catch (Exception e) {
+                next.fail(e);
+                return;
+            }
+            next.addSource(inner);
+            inner.whenDone(() -> {
+                if (!next.copyFailure(inner)) {
+                    next.complete(inner.getValue());
+                }
+            });
+        });
+        return next;
+    }
+
+    /**
+     * Create a WorkerFuture failing with a TimeoutException when this WorkerFuture has not completed within the timeout,
+     * this WorkerFuture is cancelled when the timeout expires.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return newly created WorkerFuture
+     */
+    public WorkerFuture<V> withTimeout(final long timeout, final TimeUnit unit) {
+        final WorkerFuture<V> next = new WorkerFuture<>();
+        next.addSource(this);
+        final ScheduledFuture<?> timer = TimerHolder.TIMER.schedule(() -> {
+            if (next.fail(new TimeoutException("WorkerFuture timed out after " + unit.toMillis(timeout) + "ms"))) {
+                cancel(true);
+            }
+        }, timeout, unit);
+        whenDone(() -> {
+            timer.cancel(false);
+            if (!next.copyFailure(this)) {
+                next.complete(getValue());
+            }
+        });
+        return next;
+    }
+
+    /**
+     * Subscribe the WorkerSubscriber to this WorkerFuture, this subscriber will be notified on the main UI Thread
+     * when this WorkerFuture is successful or has failed
+     *
+     * @param subscriber the subscriber to assign to this WorkerFuture
+     */
+    public void subscribe(final WorkerSubscriber<V> subscriber) {
+        this.subscriber = subscriber;
+        if (isDone()) {
+            MainThreadDispatcher.getInstance().dispatch(this::deliver);
+        }
+    }
+
+    /**
+     * Unsubscribe from this WorkerFuture, the subscriber will not be notified anymore
+     */
+    public void unsubscribe() {
+        this.subscriber = null;
+    }
+
+    /**
+     * Check if a Subscriber has been subscribed to this WorkerFuture
+     *
+     * @return true when subscribed, false otherwise
+     */
+    public boolean isSubscribed() {
+        return subscriber != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        if (!setResult(CANCELLED, null, null)) {
+            return false;
+        }
+        cancelSources(mayInterruptIfRunning);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized V get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return report();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized V get(final long timeout, final TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (state == PENDING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    private V report() throws ExecutionException {
+        switch (state) {
+            case SUCCESS:
+                return value;
+            case FAILURE:
+                throw new ExecutionException(failure);
+            default:
+                throw new CancellationException();
+        }
+    }
+
+    private boolean complete(final V value) {
+        return setResult(SUCCESS, value, null);
+    }
+
+    private boolean fail(final Throwable cause) {
+        return setResult(FAILURE, null, cause);
+    }
+
+    private boolean setResult(final int newState, final V newValue, final Throwable newFailure) {
+        List<Runnable> completed;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            state = newState;
+            value = newValue;
+            failure = newFailure;
+            completed = callbacks;
+            callbacks = null;
+            notifyAll();
+        }
+        for (Runnable callback : completed) {
+            callback.run();
+        }
+        if (newState != CANCELLED && subscriber != null) {
+            MainThreadDispatcher.getInstance().dispatch(this::deliver);
+        }
+        return true;
+    }
+
+    /**
+     * Copy the failure or cancellation of the completed WorkerFuture into this WorkerFuture
+     *
+     * @return true when the completed WorkerFuture failed or was cancelled, false when it was successful
+     */
+    private boolean copyFailure(final WorkerFuture<?> completed) {
+        if (completed.isCancelled()) {
+            cancel(false);
+            return true;
+        }
+        Throwable cause = completed.getFailure();
+        if (cause != null) {
+            fail(cause);
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized V getValue() {
+        return value;
+    }
+
+    private synchronized Throwable getFailure() {
+        return failure;
+    }
+
+    private void whenDone(final Runnable callback) {
+        synchronized (this) {
+            if (state == PENDING) {
+                callbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    private void addSource(final Future<?> source) {
+        synchronized (this) {
+            if (state != CANCELLED) {
+                sources.add(source);
+                return;
+            }
+        }
+        source.cancel(true);
+    }
+
+    private void cancelSources(final boolean mayInterruptIfRunning) {
+        List<Future<?>> cancelled;
+        synchronized (this) {
+            cancelled = new ArrayList<>(sources);
+            sources.clear();
+        }
+        for (Future<?> source : cancelled) {
+            source.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    private void deliver() {
+        WorkerSubscriber<V> subscriber = this.subscriber;
+        if (subscriber == null || delivered) {
+            return;
+        }
+        int currentState;
+        synchronized (this) {
+            currentState = state;
+        }
+        if (currentState == SUCCESS) {
+            delivered = true;
+            subscriber.onSuccess(getValue());
+        } else if (currentState == FAILURE) {
+            delivered = true;
+            subscriber.onError(getFailure());
+        }
+    }
+
+    /**
+     * Function transforming the value of a WorkerFuture
+     */
+    public interface Function<T, R> {
+
+        /**
+         * Apply this function to the value
+         *
+         * @param value the value of the previous WorkerFuture
+         * @return the transformed value
+         * @throws Exception when the value could not be transformed
+         */
+        R apply(T value) throws Exception;
+    }
+
+    /**
+     * Function returning the WorkerFuture of the next asynchronous step
+     */
+    public interface AsyncFunction<T, R> {
+
+        /**
+         * Apply this function to the value
+         *
+         * @param value the value of the previous WorkerFuture
+         * @return the WorkerFuture of the next step
+         * @throws Exception when the next step could not be started
+         */
+        WorkerFuture<R> apply(T value) throws Exception;
+    }
+
+    private static class TimerHolder {
+        static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+        private static ScheduledThreadPoolExecutor createTimer() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "checkout-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+}
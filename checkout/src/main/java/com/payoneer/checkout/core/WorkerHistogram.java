@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Histogram counting durations in milliseconds in fixed buckets, it is safe to record durations from multiple threads.
+ * Bucket i counts durations up to and including BUCKET_BOUNDS[i], the last bucket counts all longer durations.
+ */
+public final class WorkerHistogram {
+
+    private final static long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000 };
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+
+    /**
+     * Record a duration in this histogram
+     *
+     * @param millis duration in milliseconds
+     */
+    public void record(final long millis) {
+        int index = Arrays.binarySearch(BUCKET_BOUNDS, millis);
+        counts.incrementAndGet(index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * Get the upper bounds in milliseconds of the buckets, the last bucket does not have an upper bound
+     *
+     * @return copy of the bucket bounds
+     */
+    public long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Get the number of recorded durations in each bucket
+     *
+     * @return the counts, one more than the number of bucket bounds
+     */
+    public long[] getBucketCounts() {
+        long[] values = new long[counts.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = counts.get(i);
+        }
+        return values;
+    }
+
+    /**
+     * Get the total number of recorded durations
+     *
+     * @return total number of durations
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Get the upper bound of the bucket containing the given percentile
+     *
+     * @param percentile between 0 and 100
+     * @return upper bound in milliseconds, Long.MAX_VALUE if it is in the last bucket or 0 if nothing has been recorded
+     */
+    public long getPercentile(final double percentile) {
+        long[] values = getBucketCounts();
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * percentile / 100);
+        long count = 0;
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            count += values[i];
+            if (count >= threshold) {
+                return BUCKET_BOUNDS[i];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WorkerHistogram{count=" + getCount() + ", p50=" + getPercentile(50) + ", p95=" + getPercentile(95) + "}";
+    }
+}
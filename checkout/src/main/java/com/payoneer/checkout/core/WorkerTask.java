@@ -9,21 +9,19 @@
 package com.payoneer.checkout.core;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 
 import com.payoneer.checkout.util.Resource;
 
-import android.os.Handler;
-import android.os.Looper;
-
 /**
  * A WorkerTask executing one Callable and notifying the WorkerSubscriber once it is completed.
  * The WorkerSubscriber must be subscribed or unsubscribed on the main UI Thread.
  */
 public final class WorkerTask<V> extends FutureTask<V> {
 
-    private WorkerSubscriber<V> subscriber;
+    private volatile WorkerSubscriber<V> subscriber;
 
     private WorkerTask(Callable<V> callable) {
         super(callable);
@@ -86,39 +84,51 @@ public final class WorkerTask<V> extends FutureTask<V> {
         return workerTask != null && workerTask.isSubscribed();
     }
 
+    /**
+     * Discard this task before it has been started, i.e. because the queue of its executor is full.
+     * Unlike a cancelled task, the subscriber of a discarded task is notified with a CancellationException
+     * so it can submit the task again later.
+     */
+    void discard() {
+        if (cancel(false)) {
+            MainThreadDispatcher.getInstance().dispatch(this::deliverDiscarded);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void done() {
+        // The result is not delivered when nobody is listening anymore
+        if (subscriber != null && !isCancelled()) {
+            MainThreadDispatcher.getInstance().dispatch(this::deliver);
+        }
+    }
+
+    /**
+     * Deliver the result of this completed task to the subscriber, this method is called on the main UI Thread
+     */
+    private void deliver() {
+        WorkerSubscriber<V> subscriber = this.subscriber;
+        if (subscriber == null || isCancelled()) {
+            return;
+        }
         try {
-            callSuccessOnMainThread(get());
+            subscriber.onSuccess(get());
         } catch (InterruptedException e) {
-            callErrorOnMainThread(e);
+            subscriber.onError(e);
         } catch (ExecutionException e) {
-            callErrorOnMainThread(e.getCause());
+            subscriber.onError(e.getCause());
+        } catch (CancellationException e) {
+            // a cancelled task does not notify its subscriber
         }
     }
 
-    private void callSuccessOnMainThread(V result) {
-        Handler handler = new Handler(Looper.getMainLooper());
-        handler.post(new Runnable() {
-            public void run() {
-                if (subscriber != null) {
-                    subscriber.onSuccess(result);
-                }
-            }
-        });
-    }
-
-    private void callErrorOnMainThread(Throwable throwable) {
-        Handler handler = new Handler(Looper.getMainLooper());
-        handler.post(new Runnable() {
-            public void run() {
-                if (subscriber != null) {
-                    subscriber.onError(throwable);
-                }
-            }
-        });
+    private void deliverDiscarded() {
+        WorkerSubscriber<V> subscriber = this.subscriber;
+        if (subscriber != null) {
+            subscriber.onError(new CancellationException("Task has been discarded"));
+        }
     }
 }
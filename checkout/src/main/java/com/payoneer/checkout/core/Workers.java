@@ -8,21 +8,64 @@
 
 package com.payoneer.checkout.core;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
 
 /**
- * The Singleton class maintaining a list of Workers processing background tasks
+ * The Singleton class maintaining a list of Workers processing background tasks.
+ * Every kind of task is executed by its own bounded WorkerExecutor with named threads, the image threads run with
+ * a lower priority so they do not compete with the threads loading the payment session. Prefetch tasks run with the
+ * lowest priority and never take a place in the queue of images requested for visible views. The host application may
+ * provide its own Executor, e.g. a thread pool shared by the whole application, which then executes all tasks.
  */
 public final class Workers {
 
-    private final ExecutorService networkService;
+    private final static int NETWORK_THREADS = 6;
+    private final static int LOCALIZATION_THREADS = 4;
+    private final static int IMAGE_THREADS = 3;
+    private final static int PREFETCH_THREADS = 2;
+    private final static int CANCELLATION_THREADS = 2;
+    private final static int IMAGE_QUEUE_SIZE = 64;
+    private final static long KEEP_ALIVE_SECONDS = 30;
+
+    // On Android a Java priority of 4 maps to the background thread priority
+    private final static int IMAGE_THREAD_PRIORITY = Thread.NORM_PRIORITY - 1;
+    private final static int PREFETCH_THREAD_PRIORITY = Thread.MIN_PRIORITY;
+
+    private final WorkerExecutor networkExecutor;
+
+    private final WorkerExecutor imageExecutor;
+
+    private final WorkerExecutor localizationExecutor;
 
-    private final ExecutorService imageService;
+    private final WorkerExecutor prefetchExecutor;
+
+    private final WorkerExecutor cancellationExecutor;
+
+    private volatile ExecutorService hostService;
 
     private Workers() {
-        this.networkService = Executors.newCachedThreadPool();
-        this.imageService = Executors.newCachedThreadPool();
+        this.networkExecutor = new WorkerExecutor("network", NETWORK_THREADS, Thread.NORM_PRIORITY, KEEP_ALIVE_SECONDS,
+            new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        this.imageExecutor = new WorkerExecutor("image", IMAGE_THREADS, IMAGE_THREAD_PRIORITY, KEEP_ALIVE_SECONDS,
+            new LifoBlockingDeque(IMAGE_QUEUE_SIZE), new DiscardOldestPolicy());
+        this.localizationExecutor = new WorkerExecutor("localization", LOCALIZATION_THREADS, Thread.NORM_PRIORITY,
+            KEEP_ALIVE_SECONDS, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        this.prefetchExecutor = new WorkerExecutor("prefetch", PREFETCH_THREADS, PREFETCH_THREAD_PRIORITY,
+            KEEP_ALIVE_SECONDS, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        this.cancellationExecutor = new WorkerExecutor("cancellation", CANCELLATION_THREADS, Thread.NORM_PRIORITY,
+            KEEP_ALIVE_SECONDS, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
     }
 
     /**
@@ -34,22 +77,205 @@ public final class Workers {
         return InstanceHolder.INSTANCE;
     }
 
+    /**
+     * Set the Executor of the host application, all tasks are executed by this Executor instead of the WorkerExecutors.
+     * The Executor must be able to run several tasks at the same time since tasks may wait for each other.
+     * The Executor is never shut down by the Workers.
+     *
+     * @param executor the Executor of the host application or null to use the WorkerExecutors again
+     */
+    public void setHostExecutor(final Executor executor) {
+        this.hostService = executor != null ? new HostExecutorService(executor) : null;
+    }
+
     /**
      * Get the WorkerExecutor for network tasks
      *
      * @return the network executor for network tasks
      */
     public ExecutorService forNetworkTasks() {
-        return networkService;
+        ExecutorService service = hostService;
+        return service != null ? service : networkExecutor;
     }
 
     /**
-     * Get the WorkerExecutor for image tasks
+     * Get the WorkerExecutor for image tasks.
+     * This executor is bounded and runs the most recently submitted task first, images requested for visible
+     * views are therefore loaded before images of views that have been scrolled away. When the queue is full
+     * the oldest queued task is discarded and cancelled, a discarded WorkerTask notifies its subscriber with
+     * a CancellationException.
      *
      * @return the image executor for image tasks
      */
     public ExecutorService forImageTasks() {
-        return imageService;
+        ExecutorService service = hostService;
+        return service != null ? service : imageExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor for loading localization files concurrently.
+     * This executor is bounded and runs at most a fixed number of localization requests at the same time.
+     *
+     * @return the localization executor for localization tasks
+     */
+    public ExecutorService forLocalizationTasks() {
+        ExecutorService service = hostService;
+        return service != null ? service : localizationExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor for prefetching resources that may be needed later, i.e. network logos.
+     * This executor runs its tasks with the lowest priority.
+     *
+     * @return the prefetch executor for prefetch tasks
+     */
+    public ExecutorService forPrefetchTasks() {
+        ExecutorService service = hostService;
+        return service != null ? service : prefetchExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor for aborting cancelled tasks, i.e. disconnecting the HttpURLConnection of a cancelled request.
+     * These tasks never wait behind the network tasks they abort.
+     *
+     * @return the cancellation executor for cancellation tasks
+     */
+    public ExecutorService forCancellationTasks() {
+        ExecutorService service = hostService;
+        return service != null ? service : cancellationExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor of the network tasks, i.e. to read its metrics or to change its pool size
+     *
+     * @return the network WorkerExecutor
+     */
+    public WorkerExecutor getNetworkExecutor() {
+        return networkExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor of the image tasks, i.e. to read its metrics or to change its pool size
+     *
+     * @return the image WorkerExecutor
+     */
+    public WorkerExecutor getImageExecutor() {
+        return imageExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor of the localization tasks, i.e. to read its metrics or to change its pool size
+     *
+     * @return the localization WorkerExecutor
+     */
+    public WorkerExecutor getLocalizationExecutor() {
+        return localizationExecutor;
+    }
+
+    /**
+     * Get the WorkerExecutor of the prefetch tasks, i.e. to read its metrics or to change its pool size
+     *
+     * @return the prefetch WorkerExecutor
+     */
+    public WorkerExecutor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    /**
+     * Blocking deque handing out the most recently added task first
+     */
+    private static class LifoBlockingDeque extends LinkedBlockingDeque<Runnable> {
+
+        LifoBlockingDeque(final int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public boolean offer(final Runnable runnable) {
+            return offerFirst(runnable);
+        }
+
+        @Override
+        public boolean add(final Runnable runnable) {
+            addFirst(runnable);
+            return true;
+        }
+
+        @Override
+        public void put(final Runnable runnable) throws InterruptedException {
+            putFirst(runnable);
+        }
+
+        @Override
+        public boolean offer(final Runnable runnable, final long timeout, final TimeUnit unit) throws InterruptedException {
+            return offerFirst(runnable, timeout, unit);
+        }
+    }
+
+    /**
+     * Policy discarding and cancelling the oldest queued task to make room for the new task,
+     * the subscriber of a discarded WorkerTask is notified so it can load its image again.
+     */
+    private static class DiscardOldestPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                return;
+            }
+            Runnable oldest = ((LinkedBlockingDeque<Runnable>) executor.getQueue()).peekLast();
+            if (oldest != null && executor.remove(oldest)) {
+                if (oldest instanceof WorkerTask) {
+                    ((WorkerTask<?>) oldest).discard();
+                } else if (oldest instanceof Future) {
+                    ((Future<?>) oldest).cancel(false);
+                }
+            }
+            executor.execute(runnable);
+        }
+    }
+
+    /**
+     * ExecutorService executing all tasks with the Executor of the host application
+     */
+    private static class HostExecutorService extends AbstractExecutorService {
+
+        private final Executor executor;
+
+        HostExecutorService(final Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(@NonNull final Runnable command) {
+            executor.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            // the host application owns the Executor
+        }
+
+        @NonNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit) {
+            return false;
+        }
     }
 
     private static class InstanceHolder {
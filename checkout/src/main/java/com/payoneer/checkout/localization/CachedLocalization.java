@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import java.util.Map;
+
+/**
+ * Class storing the localizations of a language file together with the HTTP validators
+ * used to revalidate the language file with the Payment API.
+ */
+public final class CachedLocalization {
+
+    private final String url;
+    private final String eTag;
+    private final String lastModified;
+    private final Map<String, String> localizations;
+
+    /**
+     * Construct a new CachedLocalization
+     *
+     * @param url pointing to the language file
+     * @param eTag the optional ETag header received with the language file
+     * @param lastModified the optional Last-Modified header received with the language file
+     * @param localizations the localizations stored in the language file
+     */
+    public CachedLocalization(final String url, final String eTag, final String lastModified,
+        final Map<String, String> localizations) {
+        this.url = url;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.localizations = localizations;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public Map<String, String> getLocalizations() {
+        return localizations;
+    }
+
+    /**
+     * Check if this CachedLocalization contains validators so it can be revalidated with a conditional request
+     *
+     * @return true when it has an ETag or Last-Modified validator, false otherwise
+     */
+    public boolean hasValidators() {
+        return eTag != null || lastModified != null;
+    }
+
+    /**
+     * Create a LocalizationHolder containing the localizations of this CachedLocalization
+     *
+     * @return newly created LocalizationHolder
+     */
+    public LocalizationHolder toLocalizationHolder() {
+        return toLocalizationHolder(new LocalizationDictionary());
+    }
+
+    /**
+     * Create a LocalizationHolder containing the localizations of this CachedLocalization,
+     * the keys and values are shared with other holders through the dictionary.
+     *
+     * @param dictionary used to share the keys and values with other holders
+     * @return newly created LocalizationHolder
+     */
+    public LocalizationHolder toLocalizationHolder(final LocalizationDictionary dictionary) {
+        return CompactLocalizationHolder.of(localizations, dictionary);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable LocalizationHolder storing the translations in two sorted arrays instead of a map.
+ * The keys and values are shared through a LocalizationDictionary so language files of different
+ * networks do not store duplicate Strings.
+ */
+public final class CompactLocalizationHolder implements LocalizationHolder {
+
+    private final String[] keys;
+    private final String[] values;
+
+    private CompactLocalizationHolder(final String[] keys, final String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Create a new CompactLocalizationHolder from the translations in the map
+     *
+     * @param map containing the translations, may be null
+     * @param dictionary used to share the keys and values with other holders
+     * @return newly created CompactLocalizationHolder
+     */
+    public static CompactLocalizationHolder of(final Map<String, String> map, final LocalizationDictionary dictionary) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("dictionary cannot be null");
+        }
+        if (map == null || map.isEmpty()) {
+            return new CompactLocalizationHolder(new String[0], new String[0]);
+        }
+        String[] keys = map.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        String[] values = new String[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = dictionary.intern(map.get(keys[i]));
+            keys[i] = dictionary.intern(keys[i]);
+        }
+        return new CompactLocalizationHolder(keys, values);
+    }
+
+    /**
+     * Get the number of translations in this holder
+     *
+     * @return the number of translations
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String translate(final String key) {
+        if (key == null) {
+            return null;
+        }
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? values[index] : null;
+    }
+}
@@ -12,6 +12,7 @@ import static com.payoneer.checkout.localization.LocalizationKey.LABEL_TEXT;
 import static com.payoneer.checkout.localization.LocalizationKey.NETWORK_LABEL;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.payoneer.checkout.model.Interaction;
 
@@ -21,8 +22,12 @@ import android.text.TextUtils;
  * Class holding individual localizations to provide easy access to all translations.
  */
 public final class Localization {
+    // Marks keys that have been resolved without a translation, ConcurrentHashMap does not allow null values
+    private final static String NOT_FOUND = new String("");
+
     private final Map<String, LocalizationHolder> networks;
     private final LocalizationHolder shared;
+    private final ConcurrentHashMap<String, Map<String, String>> resolved = new ConcurrentHashMap<>();
     private static Localization instance;
 
     /**
@@ -204,7 +209,28 @@ public final class Localization {
      */
     public String getNetworkTranslation(String networkCode, String key) {
         LocalizationHolder holder = networks != null ? networks.get(networkCode) : null;
-        return holder != null ? holder.translate(key) : null;
+        if (holder == null) {
+            return null;
+        }
+        if (networkCode == null || key == null) {
+            return holder.translate(key);
+        }
+        // Network holders search through multiple holders, resolved translations are remembered per network
+        Map<String, String> translations = resolved.get(networkCode);
+        if (translations == null) {
+            translations = new ConcurrentHashMap<>();
+            Map<String, String> previous = resolved.putIfAbsent(networkCode, translations);
+            if (previous != null) {
+                translations = previous;
+            }
+        }
+        String translation = translations.get(key);
+        if (translation == null) {
+            translation = holder.translate(key);
+            translations.put(key, translation != null ? translation : NOT_FOUND);
+            return translation;
+        }
+        return translation == NOT_FOUND ? null : translation;
     }
 
     /**
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary sharing a single String instance for equal localization keys and values.
+ * Language files of different networks contain mostly the same keys and many of the same values,
+ * storing them through this dictionary removes the duplicate Strings of a payment session.
+ * This class is thread safe, language files may be added from different threads at the same time.
+ */
+public final class LocalizationDictionary {
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Get the shared instance of the given String
+     *
+     * @param value to be shared
+     * @return the shared String instance equal to the value or null if the value is null
+     */
+    public String intern(final String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = strings.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    /**
+     * Get the number of distinct Strings stored in this dictionary
+     *
+     * @return the number of distinct Strings
+     */
+    public int size() {
+        return strings.size();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.payoneer.checkout.util.PaymentUtils;
+
+import android.util.Log;
+
+/**
+ * Class for caching language files on disk so they survive process death. Every language file is stored
+ * in its own cache file together with its HTTP validators. Cache files are evicted when they are older
+ * than the maximum age or when the total size of the cache exceeds the maximum size, the least recently
+ * written files are evicted first.
+ */
+public final class LocalizationDiskCache {
+
+    public final static long DEFAULT_MAX_SIZE = 1024 * 1024;
+    public final static long DEFAULT_MAX_AGE = TimeUnit.DAYS.toMillis(7);
+
+    private final static String FILE_SUFFIX = ".json";
+    private final static String TEMP_SUFFIX = ".tmp";
+
+    private final Gson gson = new GsonBuilder().create();
+    private final File directory;
+    private final long maxSize;
+    private final long maxAge;
+
+    /**
+     * Construct a new LocalizationDiskCache storing cache files in the given directory
+     *
+     * @param directory in which the cache files are stored, it is created if it does not exist
+     * @param maxSize maximum size in bytes of all cache files
+     * @param maxAge maximum age in milliseconds of a cache file
+     */
+    public LocalizationDiskCache(final File directory, final long maxSize, final long maxAge) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory cannot be null");
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Get the CachedLocalization for the given language file url
+     *
+     * @param url pointing to the language file
+     * @return the CachedLocalization or null if not found or expired
+     */
+    public synchronized CachedLocalization get(final String url) {
+        File file = getCacheFile(url);
+        if (!file.exists()) {
+            return null;
+        }
+        if (isExpired(file, System.currentTimeMillis())) {
+            deleteFile(file);
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            CachedLocalization cached = gson.fromJson(reader, CachedLocalization.class);
+            if (cached != null && url.equals(cached.getUrl()) && cached.getLocalizations() != null) {
+                return cached;
+            }
+        } catch (IOException | JsonParseException e) {
+            Log.w("checkout-sdk", e);
+        }
+        deleteFile(file);
+        return null;
+    }
+
+    /**
+     * Put the CachedLocalization in this disk cache, an existing cache file for the same url is replaced.
+     *
+     * @param cached the CachedLocalization to be stored
+     */
+    public synchronized void put(final CachedLocalization cached) {
+        if (cached == null || cached.getLocalizations() == null) {
+            return;
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.w("checkout-sdk", "Could not create localization cache directory");
+            return;
+        }
+        File file = getCacheFile(cached.getUrl());
+        File tempFile = new File(directory, file.getName() + TEMP_SUFFIX);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8)) {
+            gson.toJson(cached, writer);
+        } catch (IOException | JsonParseException e) {
+            Log.w("checkout-sdk", e);
+            deleteFile(tempFile);
+            return;
+        }
+        if (!tempFile.renameTo(file)) {
+            deleteFile(tempFile);
+            return;
+        }
+        trim();
+    }
+
+    /**
+     * Mark the cache file of the url as recently validated, this resets the age of the cache file.
+     *
+     * @param url pointing to the language file
+     */
+    public synchronized void touch(final String url) {
+        File file = getCacheFile(url);
+        if (file.exists() && !file.setLastModified(System.currentTimeMillis())) {
+            Log.w("checkout-sdk", "Could not update timestamp of localization cache file");
+        }
+    }
+
+    /**
+     * Remove all cache files from this disk cache
+     */
+    public synchronized void clear() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFile(file);
+            }
+        }
+    }
+
+    /**
+     * Get the total size in bytes of all cache files
+     *
+     * @return total size in bytes
+     */
+    public synchronized long size() {
+        long size = 0;
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                size += file.length();
+            }
+        }
+        return size;
+    }
+
+    private void trim() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        // Sort from most to least recently written so the oldest files are evicted first
+        Arrays.sort(files, (lhs, rhs) -> Long.compare(rhs.lastModified(), lhs.lastModified()));
+        long now = System.currentTimeMillis();
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+            if (size > maxSize || isExpired(file, now)) {
+                deleteFile(file);
+            }
+        }
+    }
+
+    private boolean isExpired(final File file, final long now) {
+        return now - file.lastModified() > maxAge;
+    }
+
+    private File getCacheFile(final String url) {
+        return new File(directory, PaymentUtils.toSha256Hex(url) + FILE_SUFFIX);
+    }
+
+    private void deleteFile(final File file) {
+        if (file.exists() && !file.delete()) {
+            Log.w("checkout-sdk", "Could not delete localization cache file: " + file.getName());
+        }
+    }
+}
@@ -64,12 +64,17 @@ public final class LocalizationKey {
     public final static String DIALOG_FORCED_CHECKBOX_MESSAGE_TITLE = "messages.checkbox.forced.title";
     public final static String DIALOG_FORCED_CHECKBOX_MESSAGE_TEXT = "messages.checkbox.forced.text";
 
+    private final static LocalizationKeyCache errorKeys = new LocalizationKeyCache("error.", "");
+    private final static LocalizationKeyCache accountKeys = new LocalizationKeyCache("account.", "");
+    private final static LocalizationKeyCache operationButtonKeys = new LocalizationKeyCache("button.operation.", ".label");
+    private final static LocalizationKeyCache interactionKeys = new LocalizationKeyCache("interaction.", "");
+
     public static String errorKey(String error) {
-        return "error." + error;
+        return errorKeys.key(error);
     }
 
     public static String accountValueKey(String account, String value) {
-        return "account." + account + "." + value;
+        return accountKeys.key(account, value);
     }
 
     public static String accountLabelKey(String account) {
@@ -81,18 +86,18 @@ public final class LocalizationKey {
     }
 
     public static String accountHintKey(String account, String labelType) {
-        return accountValueKey(account, "hint.where." + labelType);
+        return accountKeys.key(account, "hint", "where", labelType);
     }
 
     public static String operationButtonKey(String operationType) {
-        return "button.operation." + operationType + ".label";
+        return operationButtonKeys.key(operationType);
     }
 
     public static String interactionKey(Interaction interaction, String labelType) {
-        return "interaction." + interaction.getCode() + "." + interaction.getReason() + "." + labelType;
+        return interactionKeys.key(interaction.getCode(), interaction.getReason(), labelType);
     }
 
     public static String interactionKey(Interaction interaction, String operationType, String labelType) {
-        return "interaction." + operationType + "." + interaction.getCode() + "." + interaction.getReason() + "." + labelType;
+        return interactionKeys.key(operationType, interaction.getCode(), interaction.getReason(), labelType);
     }
 }
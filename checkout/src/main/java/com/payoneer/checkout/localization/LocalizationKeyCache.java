@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of localization keys built from multiple parts, i.e. an account name and a suffix.
+ * The parts are stored in a tree so a repeated lookup finds the previously built key without
+ * allocating a new String. This class is thread safe.
+ */
+final class LocalizationKeyCache {
+
+    private final static String NULL_PART = "null";
+    private final static char SEPARATOR = '.';
+
+    private final Node root = new Node(null, null);
+    private final String prefix;
+    private final String suffix;
+
+    /**
+     * Construct a new LocalizationKeyCache, the keys are built from the prefix, the parts separated by a dot and the suffix.
+     *
+     * @param prefix of all keys in this cache
+     * @param suffix of all keys in this cache
+     */
+    LocalizationKeyCache(final String prefix, final String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Get the key for the given part, the key is built and stored when missing.
+     *
+     * @param part1 first part of the key
+     * @return the key
+     */
+    String key(final String part1) {
+        return key(root.child(part1));
+    }
+
+    /**
+     * Get the key for the given parts, the key is built and stored when missing.
+     *
+     * @param part1 first part of the key
+     * @param part2 second part of the key
+     * @return the key
+     */
+    String key(final String part1, final String part2) {
+        return key(root.child(part1).child(part2));
+    }
+
+    /**
+     * Get the key for the given parts, the key is built and stored when missing.
+     *
+     * @param part1 first part of the key
+     * @param part2 second part of the key
+     * @param part3 third part of the key
+     * @return the key
+     */
+    String key(final String part1, final String part2, final String part3) {
+        return key(root.child(part1).child(part2).child(part3));
+    }
+
+    /**
+     * Get the key for the given parts, the key is built and stored when missing.
+     *
+     * @param part1 first part of the key
+     * @param part2 second part of the key
+     * @param part3 third part of the key
+     * @param part4 fourth part of the key
+     * @return the key
+     */
+    String key(final String part1, final String part2, final String part3, final String part4) {
+        return key(root.child(part1).child(part2).child(part3).child(part4));
+    }
+
+    private String key(final Node node) {
+        String key = node.key;
+        if (key == null) {
+            StringBuilder sb = new StringBuilder(prefix);
+            appendParts(sb, node);
+            key = sb.append(suffix).toString();
+            node.key = key;
+        }
+        return key;
+    }
+
+    private void appendParts(final StringBuilder sb, final Node node) {
+        if (node.parent != root) {
+            appendParts(sb, node.parent);
+            sb.append(SEPARATOR);
+        }
+        sb.append(node.part);
+    }
+
+    /**
+     * Node in the key tree, the key of a node is set once it has been built.
+     */
+    private final static class Node {
+
+        private final ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>();
+        private final Node parent;
+        private final String part;
+        volatile String key;
+
+        Node(final Node parent, final String part) {
+            this.parent = parent;
+            this.part = part;
+        }
+
+        Node child(final String part) {
+            // A null part is concatenated as "null" and therefore results in the same key
+            String name = part != null ? part : NULL_PART;
+            Node child = children.get(name);
+            if (child == null) {
+                child = new Node(this, name);
+                Node previous = children.putIfAbsent(name, child);
+                if (previous != null) {
+                    child = previous;
+                }
+            }
+            return child;
+        }
+    }
+}
@@ -12,7 +12,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
 import java.net.CookieHandler;
 import java.net.CookieManager;
 import java.net.HttpURLConnection;
@@ -22,7 +25,10 @@ import java.nio.charset.StandardCharsets;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.MalformedJsonException;
 import com.payoneer.checkout.core.PaymentException;
+import com.payoneer.checkout.core.WorkerCancellation;
+import com.payoneer.checkout.core.Workers;
 import com.payoneer.checkout.model.ErrorInfo;
 
 import android.content.Context;
@@ -77,16 +83,32 @@ abstract class BaseConnection {
     }
 
     /**
-     * This method will try to close the
-     * HttpURLConnection if it exists
+     * This method will release the HttpURLConnection if it exists,
+     * the HttpTransport decides if the connection is kept alive or disconnected.
      *
      * @param conn the connection to close
      */
     void close(final HttpURLConnection conn) {
+        WorkerCancellation.setCancelListener(null);
+        HttpTransport.getInstance().releaseConnection(conn);
+    }
 
-        if (conn != null) {
-            conn.disconnect();
+    /**
+     * Open a new HttpURLConnection which is disconnected when the task running on the current thread is cancelled,
+     * this releases the socket and thread right away instead of waiting for the read timeout.
+     * Tasks are cancelled from the main UI Thread and closing a TLS socket performs network I/O,
+     * the connection is therefore disconnected by a cancellation worker.
+     *
+     * @param url the Url pointing to the Payment API
+     * @return HttpURLConnection a HttpURLConnection object
+     */
+    private HttpURLConnection openConnection(final URL url) throws IOException {
+        final HttpURLConnection conn = HttpTransport.getInstance().openConnection(url);
+        Runnable disconnect = () -> Workers.getInstance().forCancellationTasks().execute(conn::disconnect);
+        if (!WorkerCancellation.setCancelListener(disconnect)) {
+            throw new InterruptedIOException("Request has been cancelled");
         }
+        return conn;
     }
 
     /**
@@ -96,7 +118,7 @@ abstract class BaseConnection {
      * @return HttpURLConnection a HttpURLConnection object
      */
     HttpURLConnection createGetConnection(final URL url) throws IOException {
-        final HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        final HttpURLConnection conn = openConnection(url);
         setConnProperties(conn);
         conn.setRequestMethod(HTTP_GET);
         conn.setDoInput(true);
@@ -111,7 +133,7 @@ abstract class BaseConnection {
      * @return HttpURLConnection a HttpURLConnection object
      */
     HttpURLConnection createDeleteConnection(final URL url) throws IOException {
-        final HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        final HttpURLConnection conn = openConnection(url);
         setConnProperties(conn);
         conn.setRequestMethod(HTTP_DELETE);
         conn.setDoInput(true);
@@ -126,7 +148,7 @@ abstract class BaseConnection {
      * @return HttpURLConnection the created HttpURLConnection
      */
     HttpURLConnection createPostConnection(final URL url) throws IOException {
-        final HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        final HttpURLConnection conn = openConnection(url);
         setConnProperties(conn);
         conn.setRequestMethod(HTTP_POST);
         conn.setDoInput(true);
@@ -135,17 +157,27 @@ abstract class BaseConnection {
     }
 
     /**
-     * Reads a String from the given Inputstream.
+     * Decodes the JSON response body of the given connection directly from its InputStream.
+     * The body is read with UTF-8 encoding and streamed into Gson without creating
+     * an intermediate String of the whole response.
      *
      * @param conn the HttpURLConnection to read from
-     * @return the string representation read from the Inputstream
+     * @param typeOfT the type of the object to decode
+     * @return the decoded object or null if the response body is empty
      */
-    String readFromInputStream(final HttpURLConnection conn) throws IOException {
+    <T> T readFromInputStream(final HttpURLConnection conn, final Type typeOfT) throws IOException {
 
         try (InputStream in = conn.getInputStream();
-            InputStreamReader ir = new InputStreamReader(in);
-            BufferedReader rd = new BufferedReader(ir)) {
-            return readFromBufferedReader(rd);
+            Reader rd = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return gson.fromJson(rd, typeOfT);
+        } catch (JsonParseException e) {
+            // Gson wraps IO errors that occur while streaming, these are network failures
+            // and not parse errors of the content
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException && !(cause instanceof MalformedJsonException)) {
+                throw (IOException) cause;
+            }
+            throw e;
         }
     }
 
@@ -161,7 +193,7 @@ abstract class BaseConnection {
             return null;
         }
         try (InputStream in = conn.getErrorStream();
-            InputStreamReader ir = new InputStreamReader(in);
+            InputStreamReader ir = new InputStreamReader(in, StandardCharsets.UTF_8);
             BufferedReader rd = new BufferedReader(ir)) {
             return readFromBufferedReader(rd);
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * The HttpTransport opens and releases the HttpURLConnections used by all Payment API connections.
+ * <p>
+ * By default connections are kept alive, they are not disconnected after use so the platform can return
+ * the socket and TLS session to its connection pool and reuse them for the next request to the same host.
+ * Applications may install their own HttpTransport, i.e. one backed by an HTTP/2 capable client, by
+ * extending this class and setting it as the current instance.
+ */
+public class HttpTransport {
+
+    private final static String HEADER_CONNECTION = "Connection";
+    private final static String VALUE_CLOSE = "close";
+    private final static int MAX_DRAIN_BYTES = 8192;
+
+    private static volatile HttpTransport instance = new HttpTransport(true);
+
+    private volatile boolean keepAlive;
+
+    /**
+     * Construct a new HttpTransport
+     *
+     * @param keepAlive true when connections should be kept alive and reused, false otherwise
+     */
+    public HttpTransport(final boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Get the currently set HttpTransport instance
+     *
+     * @return the current instance
+     */
+    public static HttpTransport getInstance() {
+        return instance;
+    }
+
+    /**
+     * Set the current HttpTransport instance used by all Payment API connections
+     *
+     * @param newInstance to be set as the current instance
+     */
+    public static void setInstance(final HttpTransport newInstance) {
+        if (newInstance == null) {
+            throw new IllegalArgumentException("HttpTransport cannot be null");
+        }
+        instance = newInstance;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(final boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Open a new HttpURLConnection for the given URL
+     *
+     * @param url pointing to the resource
+     * @return the newly opened HttpURLConnection
+     */
+    public HttpURLConnection openConnection(final URL url) throws IOException {
+        final HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        if (!keepAlive) {
+            conn.setRequestProperty(HEADER_CONNECTION, VALUE_CLOSE);
+        }
+        return conn;
+    }
+
+    /**
+     * Release the HttpURLConnection once the request has been completed.
+     * When keep alive is enabled any unread error response is drained and the connection is left to
+     * the platform pool, otherwise the connection is disconnected.
+     *
+     * @param conn the connection to release, may be null
+     */
+    public void releaseConnection(final HttpURLConnection conn) {
+        if (conn == null) {
+            return;
+        }
+        if (!keepAlive) {
+            conn.disconnect();
+            return;
+        }
+        try (InputStream in = conn.getErrorStream()) {
+            drain(in);
+        } catch (IOException e) {
+            // The platform discards connections whose streams could not be drained
+            conn.disconnect();
+        }
+    }
+
+    private void drain(final InputStream in) throws IOException {
+        if (in == null) {
+            return;
+        }
+        final byte[] buf = new byte[512];
+        int total = 0;
+        int read;
+        while (total < MAX_DRAIN_BYTES && (read = in.read(buf)) != -1) {
+            total += read;
+        }
+    }
+}
@@ -8,6 +8,7 @@
 
 package com.payoneer.checkout.network;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
@@ -34,6 +35,17 @@ public final class ImageConnection extends BaseConnection {
      * @return Bitmap drawable
      */
     public Bitmap loadBitmap(final URL url) throws PaymentException {
+        byte[] data = loadImageData(url);
+        return BitmapFactory.decodeByteArray(data, 0, data.length);
+    }
+
+    /**
+     * Load the encoded image data from the given URL, the data can be cached before it is decoded
+     *
+     * @param url pointing to the image
+     * @return the encoded image data
+     */
+    public byte[] loadImageData(final URL url) throws PaymentException {
         if (url == null) {
             throw new IllegalArgumentException("url cannot be null");
         }
@@ -42,7 +54,13 @@ public final class ImageConnection extends BaseConnection {
             conn = createGetConnection(url);
 
             try (InputStream in = conn.getInputStream()) {
-                return BitmapFactory.decodeStream(in);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buf = new byte[4096];
+                int read;
+                while ((read = in.read(buf)) != -1) {
+                    out.write(buf, 0, read);
+                }
+                return out.toByteArray();
             }
         } catch (IOException e) {
             throw createPaymentException(e, true);
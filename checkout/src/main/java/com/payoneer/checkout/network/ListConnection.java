@@ -63,7 +63,7 @@ public final class ListConnection extends BaseConnection {
             final int rc = conn.getResponseCode();
 
             if (rc == HttpURLConnection.HTTP_OK) {
-                return handleCreatePaymentSessionOk(readFromInputStream(conn));
+                return readFromInputStream(conn, ListResult.class);
             }
             throw createPaymentException(rc, conn);
         } catch (JsonParseException | MalformedURLException | SecurityException e) {
@@ -96,7 +96,7 @@ public final class ListConnection extends BaseConnection {
             conn.connect();
             final int rc = conn.getResponseCode();
             if (rc == HttpURLConnection.HTTP_OK) {
-                return handleGetListResultOk(readFromInputStream(conn));
+                return readFromInputStream(conn, ListResult.class);
             }
             throw createPaymentException(rc, conn);
         } catch (JsonParseException | MalformedURLException | SecurityException e) {
@@ -107,25 +107,4 @@ public final class ListConnection extends BaseConnection {
             close(conn);
         }
     }
-
-
-    /**
-     * Handle the create new payment session OK state
-     *
-     * @param data the response data received from the API
-     * @return the ListResult
-     */
-    private ListResult handleCreatePaymentSessionOk(final String data) throws JsonParseException {
-        return gson.fromJson(data, ListResult.class);
-    }
-
-    /**
-     * Handle get list result OK state
-     *
-     * @param data the response data received from the Payment API
-     * @return the ListResult
-     */
-    private ListResult handleGetListResultOk(final String data) throws JsonParseException {
-        return gson.fromJson(data, ListResult.class);
-    }
 }
@@ -9,6 +9,7 @@
 package com.payoneer.checkout.network;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.HashMap;
@@ -17,19 +18,28 @@ import java.util.Map;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import com.payoneer.checkout.core.PaymentException;
+import com.payoneer.checkout.localization.CachedLocalization;
 import com.payoneer.checkout.localization.LocalizationHolder;
-import com.payoneer.checkout.localization.MapLocalizationHolder;
+
+import android.text.TextUtils;
 
 /**
  * Class implementing the communication with the payment API to load localization files
  * <p>
  * All requests in this class are blocking calls and should be
  * executed in a separate thread to avoid blocking the main application thread.
- * These methods are not thread safe and must not be called by different threads
- * at the same time.
+ * Localization files may be loaded by different threads at the same time.
  */
 public final class LocalizationConnection extends BaseConnection {
 
+    private final static Type LOCALIZATION_TYPE = new TypeToken<HashMap<String, String>>() {
+    }.getType();
+
+    private final static String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private final static String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    private final static String HEADER_ETAG = "ETag";
+    private final static String HEADER_LAST_MODIFIED = "Last-Modified";
+
     /**
      * Load the localization file given the URL.
      *
@@ -37,6 +47,19 @@ public final class LocalizationConnection extends BaseConnection {
      * @return LocalizationFile object containing the language entries
      */
     public LocalizationHolder loadLocalization(URL url) throws PaymentException {
+        return loadLocalization(url, null).toLocalizationHolder();
+    }
+
+    /**
+     * Load the localization file given the URL. If a previously cached version of the localization file is
+     * provided then a conditional request is made using its validators. The cached version is returned
+     * when the Payment API responds that the localization file has not been modified.
+     *
+     * @param url containing the address of the remote language file
+     * @param cached optional previously cached version of the localization file, may be null
+     * @return CachedLocalization containing the language entries and validators of the localization file
+     */
+    public CachedLocalization loadLocalization(URL url, CachedLocalization cached) throws PaymentException {
         if (url == null) {
             throw new IllegalArgumentException("url cannot be null");
         }
@@ -45,10 +68,14 @@ public final class LocalizationConnection extends BaseConnection {
             conn = createGetConnection(url);
             conn.setRequestProperty(HEADER_CONTENT_TYPE, VALUE_APP_JSON);
             conn.setRequestProperty(HEADER_ACCEPT, VALUE_APP_JSON);
+            setValidatorProperties(conn, cached);
             conn.connect();
             final int rc = conn.getResponseCode();
+            if (rc == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                return cached;
+            }
             if (rc == HttpURLConnection.HTTP_OK) {
-                return handleLoadLocalizationOk(readFromInputStream(conn));
+                return handleLoadLocalizationOk(url, conn, readFromInputStream(conn, LOCALIZATION_TYPE));
             }
             throw createPaymentException(rc, conn);
         } catch (JsonParseException | SecurityException e) {
@@ -60,15 +87,29 @@ public final class LocalizationConnection extends BaseConnection {
         }
     }
 
+    private void setValidatorProperties(final HttpURLConnection conn, final CachedLocalization cached) {
+        if (cached == null) {
+            return;
+        }
+        if (!TextUtils.isEmpty(cached.getETag())) {
+            conn.setRequestProperty(HEADER_IF_NONE_MATCH, cached.getETag());
+        }
+        if (!TextUtils.isEmpty(cached.getLastModified())) {
+            conn.setRequestProperty(HEADER_IF_MODIFIED_SINCE, cached.getLastModified());
+        }
+    }
+
     /**
      * Handle get localizations ok
      *
-     * @param data the response data received from the Payment API
-     * @return the LocalizationHolder containing the localizations
+     * @param url containing the address of the remote language file
+     * @param conn the connection containing the validator response headers
+     * @param map the localizations decoded from the Payment API response
+     * @return the CachedLocalization containing the localizations
      */
-    private LocalizationHolder handleLoadLocalizationOk(final String data) throws JsonParseException {
-        Map<String, String> map = gson.fromJson(data, new TypeToken<HashMap<String, String>>() {
-        }.getType());
-        return new MapLocalizationHolder(map);
+    private CachedLocalization handleLoadLocalizationOk(final URL url, final HttpURLConnection conn,
+        final Map<String, String> map) {
+        return new CachedLocalization(url.toString(), conn.getHeaderField(HEADER_ETAG),
+            conn.getHeaderField(HEADER_LAST_MODIFIED), map);
     }
 }
@@ -12,7 +12,6 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 
-import com.google.gson.JsonParseException;
 import com.payoneer.checkout.account.DeleteAccount;
 import com.payoneer.checkout.core.PaymentException;
 import com.payoneer.checkout.model.OperationResult;
@@ -47,7 +46,7 @@ public final class PaymentConnection extends BaseConnection {
             conn.connect();
             final int rc = conn.getResponseCode();
             if (rc == HttpURLConnection.HTTP_OK) {
-                return handleOperationResult(readFromInputStream(conn));
+                return readFromInputStream(conn, OperationResult.class);
             }
             throw createPaymentException(rc, conn);
         } catch (MalformedURLException | SecurityException e) {
@@ -80,7 +79,7 @@ public final class PaymentConnection extends BaseConnection {
             conn.connect();
             final int rc = conn.getResponseCode();
             if (rc == HttpURLConnection.HTTP_OK) {
-                return handleOperationResult(readFromInputStream(conn));
+                return readFromInputStream(conn, OperationResult.class);
             }
             throw createPaymentException(rc, conn);
         } catch (MalformedURLException | SecurityException e) {
@@ -91,14 +90,4 @@ public final class PaymentConnection extends BaseConnection {
             close(conn);
         }
     }
-
-    /**
-     * Handle the Operation Result
-     *
-     * @param data the response data received from the API
-     * @return the network response containing the OperationResult
-     */
-    private OperationResult handleOperationResult(final String data) throws JsonParseException {
-        return gson.fromJson(data, OperationResult.class);
-    }
 }
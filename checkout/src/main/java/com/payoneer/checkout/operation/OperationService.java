@@ -8,14 +8,17 @@
 
 package com.payoneer.checkout.operation;
 
-import java.util.concurrent.Callable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.payoneer.checkout.core.PaymentException;
+import com.payoneer.checkout.core.WorkerFuture;
 import com.payoneer.checkout.core.WorkerSubscriber;
-import com.payoneer.checkout.core.WorkerTask;
 import com.payoneer.checkout.core.Workers;
 import com.payoneer.checkout.model.BrowserData;
 import com.payoneer.checkout.model.OperationResult;
+import com.payoneer.checkout.model.ProviderParameters;
 import com.payoneer.checkout.network.PaymentConnection;
 import com.payoneer.checkout.risk.RiskProviders;
 
@@ -28,7 +31,7 @@ import android.content.Context;
 public final class OperationService {
     private final PaymentConnection paymentConnection;
     private OperationListener listener;
-    private WorkerTask<OperationResult> task;
+    private WorkerFuture<OperationResult> task;
     static volatile BrowserData browserData;
 
     /**
@@ -48,11 +51,14 @@ public final class OperationService {
     }
 
     /**
-     * Stop and unsubscribe from the task that is currently active in this service.
+     * Stop and unsubscribe from the task that is currently active in this service. Steps which have not been
+     * started yet are cancelled, an operation already being posted is not aborted since the Payment API may still
+     * process it, i.e. when the Activity is only paused.
      */
     public void stop() {
         if (task != null) {
             task.unsubscribe();
+            task.cancel(false);
             task = null;
         }
     }
@@ -77,12 +83,15 @@ public final class OperationService {
         if (isActive()) {
             throw new IllegalStateException("Already posting operation, stop first");
         }
-        task = WorkerTask.fromCallable(new Callable<OperationResult>() {
-            @Override
-            public OperationResult call() throws PaymentException {
-                return asyncPostOperation(operation, context);
-            }
-        });
+        // The browser data and risk provider requests are collected in parallel before the operation is posted
+        Executor executor = Workers.getInstance().forNetworkTasks();
+        WorkerFuture<BrowserData> browserDataTask = WorkerFuture.supplyAsync(() -> getBrowserData(context), executor);
+        WorkerFuture<List<ProviderParameters>> riskTask = WorkerFuture.supplyAsync(() -> getRiskProviderRequests(context), executor);
+        task = WorkerFuture.allOf(browserDataTask, riskTask).thenCompose(ignored -> WorkerFuture.supplyAsync(() -> {
+            operation.setBrowserData(browserDataTask.get());
+            operation.putProviderRequests(riskTask.get());
+            return asyncPostOperation(operation, context);
+        }, executor));
         task.subscribe(new WorkerSubscriber<OperationResult>() {
             @Override
             public void onSuccess(OperationResult result) {
@@ -102,24 +111,22 @@ public final class OperationService {
                 }
             }
         });
-        Workers.getInstance().forNetworkTasks().execute(task);
     }
 
     private OperationResult asyncPostOperation(final Operation operation, final Context context) throws PaymentException {
         paymentConnection.initialize(context);
-        addBrowserData(operation, context);
-        addRiskProviderRequests(operation, context);
         return paymentConnection.postOperation(operation);
     }
 
-    private void addRiskProviderRequests(final Operation operation, final Context context) {
+    private List<ProviderParameters> getRiskProviderRequests(final Context context) {
         RiskProviders riskProviders = RiskProviders.getInstance();
         if (riskProviders != null) {
-            operation.putProviderRequests(riskProviders.getRiskProviderRequests(context));
+            return riskProviders.getRiskProviderRequests(context);
         }
+        return Collections.emptyList();
     }
 
-    private void addBrowserData(final Operation operation, final Context context) {
+    private BrowserData getBrowserData(final Context context) {
         if (browserData == null) {
             synchronized (OperationService.class) {
                 if (browserData == null) {
@@ -127,6 +134,6 @@ public final class OperationService {
                 }
             }
         }
-        operation.setBrowserData(browserData);
+        return browserData;
     }
 }
@@ -11,6 +11,7 @@ package com.payoneer.checkout.resource;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Class containing filters for which PaymentMethods should be combined in the payment page.
@@ -44,6 +45,36 @@ public class PaymentGroup {
         }
     }
 
+    /**
+     * Compile the regexes of all PaymentGroupItems so they are not compiled when first used
+     */
+    public void compilePatterns() {
+        if (items == null) {
+            return;
+        }
+        for (PaymentGroupItem item : items) {
+            item.getPattern();
+        }
+    }
+
+    /**
+     * Get the compiled smart selection regex given the payment code.
+     *
+     * @param code used to lookup the smart selection regex
+     * @return the compiled regex for smart selection or null if not found
+     */
+    public Pattern getSmartSelectionPattern(String code) {
+        if (items == null) {
+            return null;
+        }
+        for (PaymentGroupItem item : items) {
+            if (Objects.equals(item.getCode(), code)) {
+                return item.getPattern();
+            }
+        }
+        return null;
+    }
+
     /**
      * Get the smart selection regex given the payment code.
      *
@@ -8,6 +8,8 @@
 
 package com.payoneer.checkout.resource;
 
+import java.util.regex.Pattern;
+
 /**
  * Class holding a filter for a PaymentMethod inside a payment group
  */
@@ -16,6 +18,9 @@ public class PaymentGroupItem {
     private String code;
     private String regex;
 
+    // Compiled regex, not part of the json file
+    private transient volatile Pattern pattern;
+
     private PaymentGroupItem() {
     }
 
@@ -26,4 +31,18 @@ public class PaymentGroupItem {
     public String getRegex() {
         return this.regex;
     }
+
+    /**
+     * Get the compiled regex of this item, the regex is compiled once and reused afterwards.
+     *
+     * @return the compiled regex or null if this item has no regex
+     */
+    public Pattern getPattern() {
+        Pattern compiled = pattern;
+        if (compiled == null && regex != null && !regex.isEmpty()) {
+            compiled = Pattern.compile(regex);
+            pattern = compiled;
+        }
+        return compiled;
+    }
 }
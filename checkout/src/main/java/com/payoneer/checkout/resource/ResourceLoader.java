@@ -8,17 +8,21 @@
 
 package com.payoneer.checkout.resource;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.PatternSyntaxException;
 
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import com.payoneer.checkout.core.PaymentException;
 import com.payoneer.checkout.util.GsonHelper;
@@ -27,37 +31,49 @@ import android.content.res.Resources;
 
 /**
  * The ResourceLoader class containing helper methods for loading group and validation raw json files.
+ * Loaded groups and validations are cached for the lifetime of the process, raw resources do not change
+ * while the application is running.
  */
 public final class ResourceLoader {
 
+    private final static Map<Integer, Map<String, PaymentGroup>> paymentGroups = new ConcurrentHashMap<>();
+    private final static Map<Integer, Map<String, ValidationGroup>> validations = new ConcurrentHashMap<>();
+
     /**
      * Load the payment group definition json file and return the map of PaymentGroups that should be used.
      * Each PaymentGroupItem code can be used as lookup key to find the corresponding PaymentGroup.
+     * The returned map is cached and shared, it cannot be modified.
      *
      * @param res the System resources
      * @param resId id of the resource pointing to the json file
      * @return map of payment group objects.
      */
     public static Map<String, PaymentGroup> loadPaymentGroups(Resources res, int resId) throws PaymentException {
+        Map<String, PaymentGroup> map = paymentGroups.get(resId);
+        if (map != null) {
+            return map;
+        }
+        Type listType = new TypeToken<ArrayList<PaymentGroup>>() { }.getType();
+        List<PaymentGroup> groups = readRawResource(res, resId, listType);
+        HashMap<String, PaymentGroup> groupMap = new HashMap<>();
 
         try {
-            String val = readRawResource(res, resId);
-            Type listType = new TypeToken<ArrayList<PaymentGroup>>() { }.getType();
-            List<PaymentGroup> groups = GsonHelper.getInstance().fromJson(val, listType);
-            HashMap<String, PaymentGroup> map = new HashMap<>();
-
             for (PaymentGroup group : groups) {
-                group.populate(map);
+                group.populate(groupMap);
+                group.compilePatterns();
             }
-            return map;
-        } catch (IOException | JsonSyntaxException e) {
+        } catch (PatternSyntaxException e) {
             throw new PaymentException(e);
         }
+        map = Collections.unmodifiableMap(groupMap);
+        paymentGroups.put(resId, map);
+        return map;
     }
 
     /**
      * Load the validation group definition json file and return a map of ValidationGroups.
      * The lookup key for each validation group is the code combined with merchant. String key = code + merchant.
+     * The returned map is cached and shared, it cannot be modified.
      *
      * @param res the System resources
      * @param resId id of the resource pointing to the json file
@@ -65,19 +81,25 @@ public final class ResourceLoader {
      */
 
     public static Map<String, ValidationGroup> loadValidations(Resources res, int resId) throws PaymentException {
-        try {
-            String val = readRawResource(res, resId);
-            Type listType = new TypeToken<ArrayList<ValidationGroup>>() { }.getType();
-            List<ValidationGroup> groups = GsonHelper.getInstance().fromJson(val, listType);
-            Map<String, ValidationGroup> map = new HashMap<>();
+        Map<String, ValidationGroup> map = validations.get(resId);
+        if (map != null) {
+            return map;
+        }
+        Type listType = new TypeToken<ArrayList<ValidationGroup>>() { }.getType();
+        List<ValidationGroup> groups = readRawResource(res, resId, listType);
+        Map<String, ValidationGroup> groupMap = new HashMap<>();
 
+        try {
             for (ValidationGroup group : groups) {
-                map.put(group.getCode(), group);
+                groupMap.put(group.getCode(), group);
+                group.compilePatterns();
             }
-            return map;
-        } catch (IOException | JsonSyntaxException e) {
+        } catch (PatternSyntaxException e) {
             throw new PaymentException(e);
         }
+        map = Collections.unmodifiableMap(groupMap);
+        validations.put(resId, map);
+        return map;
     }
 
     /**
@@ -89,18 +111,36 @@ public final class ResourceLoader {
      */
     public static String readRawResource(Resources res, int resId) throws IOException {
         StringBuilder sb = new StringBuilder();
-        String line;
+        char[] buf = new char[4096];
+        int read;
 
         try (InputStream is = res.openRawResource(resId);
-            InputStreamReader isr = new InputStreamReader(is);
-            BufferedReader br = new BufferedReader(isr)) {
+            Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
 
-            while ((line = br.readLine()) != null) {
-                sb.append(line);
+            while ((read = reader.read(buf)) != -1) {
+                sb.append(buf, 0, read);
             }
         } catch (Resources.NotFoundException e) {
             throw new IOException("Resource not found: " + resId);
         }
         return sb.toString();
     }
+
+    /**
+     * Parse the raw json resource directly from its stream without reading it into a String first
+     */
+    private static <T> T readRawResource(Resources res, int resId, Type typeOfT) throws PaymentException {
+        try (InputStream is = res.openRawResource(resId);
+            Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+            T value = GsonHelper.getInstance().fromJson(reader, typeOfT);
+            if (value == null) {
+                throw new PaymentException("Resource is empty: " + resId);
+            }
+            return value;
+        } catch (Resources.NotFoundException e) {
+            throw new PaymentException(new IOException("Resource not found: " + resId));
+        } catch (IOException | JsonParseException e) {
+            throw new PaymentException(e);
+        }
+    }
 }
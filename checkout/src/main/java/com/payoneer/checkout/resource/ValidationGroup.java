@@ -27,6 +27,10 @@ public class ValidationGroup {
         this.items = items;
     }
 
+    public List<ValidationGroupItem> getValidationGroupItems() {
+        return items;
+    }
+
     public String getCode() {
         return code;
     }
@@ -45,6 +49,18 @@ public class ValidationGroup {
         return item != null && item.getHide();
     }
 
+    /**
+     * Compile the regexes of all ValidationGroupItems so they are not compiled when first used
+     */
+    public void compilePatterns() {
+        if (items == null) {
+            return;
+        }
+        for (ValidationGroupItem item : items) {
+            item.getPattern();
+        }
+    }
+
     public String getValidationRegex(String type) {
         ValidationGroupItem item = getGroupItem(type);
         return item != null ? item.getRegex() : null;
@@ -8,6 +8,8 @@
 
 package com.payoneer.checkout.resource;
 
+import java.util.regex.Pattern;
+
 /**
  * Model class holding the validation Regex for the PaymentInputType
  */
@@ -18,6 +20,9 @@ public class ValidationGroupItem {
     private boolean hide;
     private int maxLength;
 
+    // Compiled regex, not part of the json file
+    private transient volatile Pattern pattern;
+
     private ValidationGroupItem() {
     }
 
@@ -36,4 +41,18 @@ public class ValidationGroupItem {
     public boolean getHide() {
         return hide;
     }
+
+    /**
+     * Get the compiled regex of this item, the regex is compiled once and reused afterwards.
+     *
+     * @return the compiled regex or null if this item has no regex
+     */
+    public Pattern getPattern() {
+        Pattern compiled = pattern;
+        if (compiled == null && regex != null && !regex.isEmpty()) {
+            compiled = Pattern.compile(regex);
+            pattern = compiled;
+        }
+        return compiled;
+    }
 }
@@ -12,7 +12,6 @@ import com.google.android.material.card.MaterialCardView;
 import com.payoneer.checkout.R;
 import com.payoneer.checkout.ui.model.AccountCard;
 import com.payoneer.checkout.ui.model.AccountCard.AccountIcon;
-import com.payoneer.checkout.ui.widget.FormWidget;
 import com.payoneer.checkout.util.PaymentUtils;
 
 import android.view.LayoutInflater;
@@ -36,8 +35,8 @@ public final class AccountCardViewHolder extends PaymentCardViewHolder {
     private final MaterialCardView cardView;
     private final ImageView expiredIconView;
 
-    private AccountCardViewHolder(ListAdapter listAdapter, View parent, AccountCard accountCard) {
-        super(listAdapter, parent, accountCard);
+    private AccountCardViewHolder(ListAdapter listAdapter, View parent) {
+        super(listAdapter, parent);
         this.titleView = parent.findViewById(R.id.text_title);
         this.subtitleView = parent.findViewById(R.id.text_subtitle);
         this.expiredIconView = parent.findViewById(R.id.image_expired_icon);
@@ -46,19 +45,12 @@ public final class AccountCardViewHolder extends PaymentCardViewHolder {
         iconView.setListener(index -> handleIconClicked(index));
         expiredIconView.setOnClickListener(icon -> cardHandler.onExpiredIconClicked());
         cardView = parent.findViewById(R.id.card_account);
-
-        addExtraElementWidgets(accountCard.getTopExtraElements());
-        addInputElementWidgets(accountCard.getInputElements());
-        addExtraElementWidgets(accountCard.getBottomExtraElements());
-        addButtonWidget();
-        layoutWidgets();
-        setLastImeOptions();
     }
 
-    static ViewHolder createInstance(ListAdapter listAdapter, AccountCard accountCard, ViewGroup parent) {
+    static ViewHolder createInstance(ListAdapter listAdapter, ViewGroup parent) {
         LayoutInflater inflater = LayoutInflater.from(parent.getContext());
         View view = inflater.inflate(R.layout.list_item_accountcard, parent, false);
-        return new AccountCardViewHolder(listAdapter, view, accountCard);
+        return new AccountCardViewHolder(listAdapter, view);
     }
 
     @Override
@@ -70,16 +62,18 @@ public final class AccountCardViewHolder extends PaymentCardViewHolder {
         bindLabel(titleView, card.getTitle(), false);
         bindLabel(subtitleView, card.getSubtitle(), true, card.isExpired());
         bindCardLogo(card.getNetworkCode(), card.getLogoLink());
-
-        for (FormWidget widget : widgets.values()) {
-            bindFormWidget(widget);
-        }
-        if (card.isExpired()) {
-            expiredIconView.setVisibility(View.VISIBLE);
-        }
+        expiredIconView.setVisibility(card.isExpired() ? View.VISIBLE : View.GONE);
         bindAccountIcon(card.getAccountIcon());
     }
 
+    @Override
+    void createFormWidgets() {
+        addExtraElementWidgets(paymentCard.getTopExtraElements());
+        addInputElementWidgets(paymentCard.getNetworkCode(), paymentCard.getInputElements());
+        addExtraElementWidgets(paymentCard.getBottomExtraElements());
+        addButtonWidget();
+    }
+
     @Override
     void expand(boolean expand) {
         super.expand(expand);
@@ -46,6 +46,8 @@ class CardEventHandler implements WidgetPresenter {
         if (!holder.hasValidPosition()) {
             return;
         }
+        // Cards may trigger an action without being expanded, e.g. preset cards
+        holder.inflateForm();
         boolean error = false;
         PaymentInputValues inputValues = new PaymentInputValues();
 
@@ -125,7 +127,8 @@ class CardEventHandler implements WidgetPresenter {
 
     @Override
     public void onTextInputChanged(String type, String text) {
-        if (holder.hasValidPosition()) {
+        // Input restored while binding has already been handled by the PaymentCard
+        if (holder.hasValidPosition() && !holder.isBinding()) {
             PaymentCard card = holder.getPaymentCard();
 
             if (card.onTextInputChanged(type, text)) {
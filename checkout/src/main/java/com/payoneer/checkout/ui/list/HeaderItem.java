@@ -13,11 +13,13 @@ package com.payoneer.checkout.ui.list;
  */
 final class HeaderItem extends ListItem {
 
+    final static String LAYOUT = "header";
+
     private final String title;
     private final String message;
 
-    HeaderItem(int viewType, String title, String message) {
-        super(viewType);
+    HeaderItem(long id, int viewType, String title, String message) {
+        super(id, viewType, LAYOUT);
         this.title = title;
         this.message = message;
     }
@@ -8,13 +8,19 @@
 
 package com.payoneer.checkout.ui.list;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 import com.payoneer.checkout.ui.model.AccountCard;
 import com.payoneer.checkout.ui.model.NetworkCard;
 import com.payoneer.checkout.ui.model.PaymentCard;
-import com.payoneer.checkout.ui.model.PresetCard;
+import com.payoneer.checkout.ui.widget.WidgetViewPool;
 
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.ViewHolder;
 
@@ -24,10 +30,17 @@ import androidx.recyclerview.widget.RecyclerView.ViewHolder;
 final class ListAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
     private final PaymentCardListener cardListener;
     private final PaymentItemList itemList;
+    private final Set<PaymentCardViewHolder> formHolders;
+    private final Set<PaymentCardViewHolder> cardHolders;
+    private final WidgetViewPool viewPool;
 
-    ListAdapter(PaymentCardListener cardListener, PaymentItemList itemList) {
+    ListAdapter(PaymentCardListener cardListener, WidgetViewPool viewPool) {
         this.cardListener = cardListener;
-        this.itemList = itemList;
+        this.viewPool = viewPool;
+        this.formHolders = Collections.newSetFromMap(new WeakHashMap<>());
+        this.cardHolders = Collections.newSetFromMap(new WeakHashMap<>());
+        this.itemList = new PaymentItemList(new AdapterListUpdateCallback(this));
+        setHasStableIds(true);
     }
 
     @Override
@@ -39,11 +52,11 @@ final class ListAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
         }
         PaymentCard card = ((PaymentCardItem) item).getPaymentCard();
         if (card instanceof NetworkCard) {
-            return NetworkCardViewHolder.createInstance(this, (NetworkCard) card, parent);
+            return NetworkCardViewHolder.createInstance(this, parent);
         } else if (card instanceof AccountCard) {
-            return AccountCardViewHolder.createInstance(this, (AccountCard) card, parent);
+            return AccountCardViewHolder.createInstance(this, parent);
         } else {
-            return PresetCardViewHolder.createInstance(this, (PresetCard) card, parent);
+            return PresetCardViewHolder.createInstance(this, parent);
         }
     }
 
@@ -55,11 +68,20 @@ final class ListAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
             ((HeaderViewHolder) holder).onBind((HeaderItem) item);
         } else {
             PaymentCardViewHolder ph = (PaymentCardViewHolder) holder;
-            ph.onBind();
+            cardHolders.add(ph);
+            ph.bindPaymentCard(((PaymentCardItem) item).getPaymentCard());
             ph.expand(itemList.getSelectedIndex() == position);
         }
     }
 
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        if (holder instanceof PaymentCardViewHolder) {
+            cardHolders.remove(holder);
+            ((PaymentCardViewHolder) holder).onRecycled();
+        }
+    }
+
     @Override
     public int getItemCount() {
         return itemList.getItemCount();
@@ -70,6 +92,19 @@ final class ListAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
         return itemList.getItemViewType(position);
     }
 
+    @Override
+    public long getItemId(int position) {
+        return itemList.getItemId(position);
+    }
+
+    PaymentItemList getItemList() {
+        return itemList;
+    }
+
+    WidgetViewPool getViewPool() {
+        return viewPool;
+    }
+
     PaymentCardListener getCardListener() {
         return cardListener;
     }
@@ -78,4 +113,48 @@ final class ListAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
         return itemList.validIndex(position);
     }
 
+    void onFormInflated(PaymentCardViewHolder holder) {
+        formHolders.add(holder);
+    }
+
+    /**
+     * Save the widget states of all ViewHolders with an inflated form in their bound PaymentCards
+     */
+    void saveWidgetStates() {
+        for (PaymentCardViewHolder holder : formHolders) {
+            holder.saveWidgetStates();
+        }
+    }
+
+    /**
+     * Swap the PaymentCards of the bound ViewHolders whose items have not changed in the committed list of items,
+     * these ViewHolders are not bound again by the RecyclerView but must hold the PaymentCard of the current session.
+     */
+    void swapPaymentCards() {
+        for (PaymentCardViewHolder holder : new ArrayList<>(cardHolders)) {
+            ListItem item = itemList.getItem(itemList.indexOfItem(holder.getItemId()));
+            if (!(item instanceof PaymentCardItem) || item.viewType != holder.getItemViewType()) {
+                continue;
+            }
+            PaymentCard card = ((PaymentCardItem) item).getPaymentCard();
+            PaymentCard current = holder.getPaymentCard();
+            if (current != null && current != card && PaymentCardItem.hasSameContent(current, card)) {
+                holder.swapPaymentCard(card);
+            }
+        }
+    }
+
+    /**
+     * Release the inflated forms of the ViewHolders that have been collapsed for at least the given duration,
+     * this includes ViewHolders that are not attached to the RecyclerView.
+     *
+     * @param minCollapsedMillis minimum duration in milliseconds a card must have been collapsed
+     */
+    void releaseCollapsedForms(long minCollapsedMillis) {
+        for (PaymentCardViewHolder holder : new ArrayList<>(formHolders)) {
+            if (holder.releaseCollapsedForm(minCollapsedMillis)) {
+                formHolders.remove(holder);
+            }
+        }
+    }
 }
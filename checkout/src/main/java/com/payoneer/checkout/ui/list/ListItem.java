@@ -13,9 +13,20 @@ package com.payoneer.checkout.ui.list;
  */
 abstract class ListItem {
 
+    final long id;
     final int viewType;
+    final String layout;
 
-    ListItem(int viewType) {
+    /**
+     * Construct a new ListItem
+     *
+     * @param id stable id of this item, items representing the same header or card in different sessions have the same id
+     * @param viewType of this item, only items with the same layout may share a view type
+     * @param layout describing the views created for this item
+     */
+    ListItem(long id, int viewType, String layout) {
+        this.id = id;
         this.viewType = viewType;
+        this.layout = layout;
     }
 }
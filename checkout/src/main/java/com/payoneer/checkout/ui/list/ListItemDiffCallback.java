@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.list;
+
+import android.text.TextUtils;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+/**
+ * Callback for calculating the difference between the ListItems of two PaymentSessions.
+ * Items are the same when they have the same stable id, PaymentCardItems have the same contents when they have the same
+ * layout and their PaymentCards show the same content. The ViewHolders of unchanged cards are not bound again, the
+ * ListAdapter swaps their PaymentCard once the new list has been committed. The change payload tells the RecyclerView
+ * to bind the new PaymentCard of a changed item in the same ViewHolder.
+ */
+final class ListItemDiffCallback extends DiffUtil.ItemCallback<ListItem> {
+
+    /**
+     * Payload indicating that the ViewHolder must be bound to the new PaymentCard, the layout is unchanged
+     */
+    final static Object PAYLOAD_BIND = "bind";
+
+    @Override
+    public boolean areItemsTheSame(@NonNull final ListItem oldItem, @NonNull final ListItem newItem) {
+        return oldItem.id == newItem.id;
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull final ListItem oldItem, @NonNull final ListItem newItem) {
+        if (oldItem.viewType != newItem.viewType) {
+            return false;
+        }
+        if (oldItem instanceof HeaderItem && newItem instanceof HeaderItem) {
+            HeaderItem oldHeader = (HeaderItem) oldItem;
+            HeaderItem newHeader = (HeaderItem) newItem;
+            return TextUtils.equals(oldHeader.getTitle(), newHeader.getTitle()) &&
+                TextUtils.equals(oldHeader.getMessage(), newHeader.getMessage());
+        }
+        if (oldItem instanceof PaymentCardItem && newItem instanceof PaymentCardItem) {
+            return TextUtils.equals(oldItem.layout, newItem.layout) &&
+                PaymentCardItem.hasSameContent(((PaymentCardItem) oldItem).paymentCard, ((PaymentCardItem) newItem).paymentCard);
+        }
+        return false;
+    }
+
+    @Override
+    public Object getChangePayload(@NonNull final ListItem oldItem, @NonNull final ListItem newItem) {
+        if (oldItem.viewType != newItem.viewType) {
+            return null;
+        }
+        if (oldItem instanceof PaymentCardItem && newItem instanceof PaymentCardItem) {
+            return PAYLOAD_BIND;
+        }
+        return null;
+    }
+}
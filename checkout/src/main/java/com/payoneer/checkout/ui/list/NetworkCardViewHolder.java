@@ -33,27 +33,15 @@ import androidx.recyclerview.widget.RecyclerView.ViewHolder;
 final class NetworkCardViewHolder extends PaymentCardViewHolder {
     private final TextView titleView;
 
-    public NetworkCardViewHolder(ListAdapter adapter, View parent, NetworkCard networkCard) {
-        super(adapter, parent, networkCard);
+    public NetworkCardViewHolder(ListAdapter adapter, View parent) {
+        super(adapter, parent);
         this.titleView = parent.findViewById(R.id.text_title);
-
-        addExtraElementWidgets(networkCard.getTopExtraElements());
-        if (networkCard.getPaymentNetworkCount() > 1) {
-            addNetworkLogosWidget();
-        }
-        addInputElementWidgets(networkCard.getInputElements());
-        addRegistrationWidget();
-        addExtraElementWidgets(networkCard.getBottomExtraElements());
-        addButtonWidget();
-
-        layoutWidgets();
-        setLastImeOptions();
     }
 
-    static ViewHolder createInstance(ListAdapter adapter, NetworkCard networkCard, ViewGroup parent) {
+    static ViewHolder createInstance(ListAdapter adapter, ViewGroup parent) {
         LayoutInflater inflater = LayoutInflater.from(parent.getContext());
         View view = inflater.inflate(R.layout.list_item_networkcard, parent, false);
-        return new NetworkCardViewHolder(adapter, view, networkCard);
+        return new NetworkCardViewHolder(adapter, view);
     }
 
     void onBind() {
@@ -67,6 +55,24 @@ final class NetworkCardViewHolder extends PaymentCardViewHolder {
             bindCardLogo(R.drawable.ic_card);
             setTestId("group");
         }
+    }
+
+    @Override
+    void createFormWidgets() {
+        NetworkCard networkCard = (NetworkCard) paymentCard;
+        addExtraElementWidgets(networkCard.getTopExtraElements());
+        if (networkCard.getPaymentNetworkCount() > 1) {
+            addNetworkLogosWidget();
+        }
+        addInputElementWidgets(networkCard.getNetworkCode(), networkCard.getInputElements());
+        addRegistrationWidget();
+        addExtraElementWidgets(networkCard.getBottomExtraElements());
+        addButtonWidget();
+    }
+
+    @Override
+    void onBindFormWidgets() {
+        NetworkCard networkCard = (NetworkCard) paymentCard;
         PaymentNetwork network = networkCard.getVisibleNetwork();
         for (FormWidget widget : widgets.values()) {
             if (widget.matches(REGISTRATION, REGISTRATION_OPTIONS)) {
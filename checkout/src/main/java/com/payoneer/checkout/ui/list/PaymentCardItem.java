@@ -8,7 +8,21 @@
 
 package com.payoneer.checkout.ui.list;
 
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+import com.payoneer.checkout.model.ExtraElement;
+import com.payoneer.checkout.model.InputElement;
+import com.payoneer.checkout.ui.model.AccountCard;
+import com.payoneer.checkout.ui.model.AccountCard.AccountIcon;
+import com.payoneer.checkout.ui.model.NetworkCard;
 import com.payoneer.checkout.ui.model.PaymentCard;
+import com.payoneer.checkout.ui.model.PaymentNetwork;
+import com.payoneer.checkout.ui.model.PresetCard;
+import com.payoneer.checkout.validation.Validator;
+
+import android.text.TextUtils;
 
 /**
  * Class representing a PaymentCard item in the RecyclerView
@@ -17,12 +31,131 @@ final class PaymentCardItem extends ListItem {
 
     final PaymentCard paymentCard;
 
-    PaymentCardItem(int viewType, PaymentCard paymentCard) {
-        super(viewType);
+    PaymentCardItem(long id, int viewType, String layout, PaymentCard paymentCard) {
+        super(id, viewType, layout);
         this.paymentCard = paymentCard;
     }
 
     PaymentCard getPaymentCard() {
         return paymentCard;
     }
+
+    /**
+     * Create the layout of the PaymentCard, the ViewHolder of a card creates its form widgets from these elements.
+     * PaymentCards with the same layout share the same view type and their ViewHolders are recycled between them.
+     *
+     * @param card for which the layout should be created
+     * @return the layout of the card
+     */
+    static String createLayout(PaymentCard card) {
+        StringBuilder sb = new StringBuilder(card.getClass().getSimpleName());
+        appendExtraElements(sb, card.getTopExtraElements());
+
+        if (card instanceof PresetCard) {
+            return sb.toString();
+        }
+        if (card instanceof NetworkCard) {
+            sb.append('|').append(((NetworkCard) card).getPaymentNetworkCount() > 1);
+        }
+        Validator validator = Validator.getInstance();
+        String code = card.getNetworkCode();
+        for (InputElement element : card.getInputElements()) {
+            String name = element.getName();
+            if (validator == null || !validator.isHidden(code, name)) {
+                sb.append('|').append(name).append(':').append(element.getType());
+            }
+        }
+        appendExtraElements(sb, card.getBottomExtraElements());
+        return sb.toString();
+    }
+
+    /**
+     * Check if both PaymentCards show the same content, i.e. the same networks, account, labels, logo, links and flags.
+     * The input elements are part of the layout of the card and are compared with the layout.
+     * This method is called on the background thread calculating the differences between two lists of items.
+     *
+     * @param oldCard the PaymentCard currently shown
+     * @param newCard the PaymentCard of the new PaymentSession
+     * @return true when both cards show the same content, false otherwise
+     */
+    static boolean hasSameContent(PaymentCard oldCard, PaymentCard newCard) {
+        if (oldCard == newCard) {
+            return true;
+        }
+        if (oldCard.getClass() != newCard.getClass()) {
+            return false;
+        }
+        if (oldCard.isDisabled() != newCard.isDisabled() || oldCard.isCheckable() != newCard.isCheckable() ||
+            oldCard.isPreselected() != newCard.isPreselected() || oldCard.isExpired() != newCard.isExpired() ||
+            oldCard.getHideInputForm() != newCard.getHideInputForm()) {
+            return false;
+        }
+        if (!TextUtils.equals(oldCard.getNetworkCode(), newCard.getNetworkCode()) ||
+            !TextUtils.equals(oldCard.getOperationType(), newCard.getOperationType()) ||
+            !TextUtils.equals(oldCard.getTitle(), newCard.getTitle()) ||
+            !TextUtils.equals(oldCard.getSubtitle(), newCard.getSubtitle()) ||
+            !TextUtils.equals(oldCard.getButton(), newCard.getButton()) ||
+            !equalLinks(oldCard.getLinks(), newCard.getLinks())) {
+            return false;
+        }
+        if (oldCard instanceof NetworkCard) {
+            return equalNetworks(((NetworkCard) oldCard).getPaymentNetworks(), ((NetworkCard) newCard).getPaymentNetworks());
+        }
+        if (oldCard instanceof AccountCard) {
+            return equalAccounts((AccountCard) oldCard, (AccountCard) newCard);
+        }
+        return true;
+    }
+
+    private static boolean equalLinks(Map<String, URL> oldLinks, Map<String, URL> newLinks) {
+        if (oldLinks == null || newLinks == null) {
+            return oldLinks == newLinks;
+        }
+        if (oldLinks.size() != newLinks.size()) {
+            return false;
+        }
+        // URLs are compared as strings, URL.equals may resolve the host names
+        for (Map.Entry<String, URL> entry : oldLinks.entrySet()) {
+            URL newLink = newLinks.get(entry.getKey());
+            URL oldLink = entry.getValue();
+            if (!TextUtils.equals(oldLink != null ? oldLink.toString() : null, newLink != null ? newLink.toString() : null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalNetworks(List<PaymentNetwork> oldNetworks, List<PaymentNetwork> newNetworks) {
+        if (oldNetworks.size() != newNetworks.size()) {
+            return false;
+        }
+        for (int i = 0, size = oldNetworks.size(); i < size; i++) {
+            PaymentNetwork oldNetwork = oldNetworks.get(i);
+            PaymentNetwork newNetwork = newNetworks.get(i);
+            if (!TextUtils.equals(oldNetwork.getNetworkCode(), newNetwork.getNetworkCode()) ||
+                !equalLinks(oldNetwork.getLinks(), newNetwork.getLinks())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalAccounts(AccountCard oldCard, AccountCard newCard) {
+        if (oldCard.isDeletable() != newCard.isDeletable()) {
+            return false;
+        }
+        AccountIcon oldIcon = oldCard.getAccountIcon();
+        AccountIcon newIcon = newCard.getAccountIcon();
+        if (oldIcon == null || newIcon == null) {
+            return oldIcon == newIcon;
+        }
+        return oldIcon.getCollapsedResId() == newIcon.getCollapsedResId() &&
+            oldIcon.getExpandedResId() == newIcon.getExpandedResId();
+    }
+
+    private static void appendExtraElements(StringBuilder sb, List<ExtraElement> elements) {
+        for (ExtraElement element : elements) {
+            sb.append('|').append(element.getName());
+        }
+    }
 }
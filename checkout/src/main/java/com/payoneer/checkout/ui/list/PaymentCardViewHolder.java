@@ -18,6 +18,7 @@ import static com.payoneer.checkout.core.PaymentInputType.VERIFICATION_CODE;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,9 +40,11 @@ import com.payoneer.checkout.util.PaymentUtils;
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.os.Parcelable;
+import android.os.SystemClock;
 import android.text.TextUtils;
+import android.util.SparseArray;
 import android.util.TypedValue;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
@@ -61,21 +64,27 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
     final ViewGroup formLayout;
     final Map<String, FormWidget> widgets;
     final ImageView cardLogoView;
-    final PaymentCard paymentCard;
     final CardEventHandler cardHandler;
     final ListAdapter adapter;
+    private final Map<String, SparseArray<Parcelable>> initialWidgetStates;
+    PaymentCard paymentCard;
+    private boolean binding;
+    private boolean formInflated;
+    private boolean expanded;
+    private long collapsedTime;
 
     /**
-     * Construct a new PaymentCardViewHolder, this is the base class for other card ViewHolder
+     * Construct a new PaymentCardViewHolder, this is the base class for other card ViewHolder.
+     * The ViewHolder is shared by all payment cards with the same layout, the PaymentCard is bound in bindPaymentCard.
+     * The form widgets are created and inflated when the card is expanded for the first time.
      *
      * @param adapter maintaining the items in the payment list
      * @param parent view of the list
-     * @param paymentCard to be shown and bind to this ViewHolder
      */
-    PaymentCardViewHolder(ListAdapter adapter, View parent, PaymentCard paymentCard) {
+    PaymentCardViewHolder(ListAdapter adapter, View parent) {
         super(parent);
         this.adapter = adapter;
-        this.paymentCard = paymentCard;
+        this.initialWidgetStates = new HashMap<>();
         this.cardHandler = new CardEventHandler(this, adapter);
         this.formLayout = parent.findViewById(R.id.layout_form);
         this.widgets = new LinkedHashMap<>();
@@ -91,16 +100,137 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
     }
 
     /**
-     * Sub classes must implement this method and make sure that all FormWidgets are
-     * bound to the correct data elements.
+     * Sub classes must implement this method and bind the header of the card, the FormWidgets are bound
+     * in onBindFormWidgets.
      */
     abstract void onBind();
 
+    /**
+     * Sub classes must implement this method and create the FormWidgets of the currently bound PaymentCard.
+     * This method is called when the form is inflated, i.e. the first time the card is expanded.
+     */
+    abstract void createFormWidgets();
+
+    /**
+     * Bind all FormWidgets to the correct data elements, this method is only called when the form has been inflated.
+     */
+    void onBindFormWidgets() {
+        for (FormWidget widget : widgets.values()) {
+            bindFormWidget(widget);
+        }
+    }
+
     PaymentCard getPaymentCard() {
         return paymentCard;
     }
 
+    /**
+     * Bind the PaymentCard to this ViewHolder. The states of the widgets are saved in the previously bound
+     * PaymentCard and the saved widget states of the new PaymentCard are restored after binding.
+     *
+     * @param paymentCard to be bound, it must have the same layout as the card used to create this ViewHolder
+     */
+    void bindPaymentCard(PaymentCard paymentCard) {
+        saveWidgetStates();
+        this.paymentCard = paymentCard;
+        onBind();
+        if (formInflated) {
+            bindFormWidgets();
+        }
+    }
+
+    /**
+     * Inflate and bind the form of this card if it has not been inflated yet
+     */
+    void inflateForm() {
+        if (formInflated) {
+            return;
+        }
+        createFormWidgets();
+        layoutWidgets();
+        setLastImeOptions();
+        formInflated = true;
+        collapsedTime = SystemClock.elapsedRealtime();
+        bindFormWidgets();
+        adapter.onFormInflated(this);
+    }
+
+    /**
+     * Release the inflated form of this card when it has been collapsed for at least the given duration.
+     * The widget states are saved in the bound PaymentCard and the form is inflated again when the card is expanded.
+     *
+     * @param minCollapsedMillis minimum duration in milliseconds the card must have been collapsed
+     * @return true when the form has been released, false otherwise
+     */
+    boolean releaseCollapsedForm(long minCollapsedMillis) {
+        if (!formInflated || expanded || SystemClock.elapsedRealtime() - collapsedTime < minCollapsedMillis) {
+            return false;
+        }
+        saveWidgetStates();
+        releaseFormWidgets();
+        formLayout.removeAllViews();
+        widgets.clear();
+        initialWidgetStates.clear();
+        formInflated = false;
+        return true;
+    }
+
+    /**
+     * Swap the bound PaymentCard with a PaymentCard showing the same content, the header and form are left untouched.
+     * When the form contains input of the user, the new PaymentCard is bound so the form shows its input instead.
+     *
+     * @param paymentCard showing the same content as the currently bound PaymentCard
+     */
+    void swapPaymentCard(PaymentCard paymentCard) {
+        if (hasUserInputData()) {
+            bindPaymentCard(paymentCard);
+        } else {
+            this.paymentCard = paymentCard;
+        }
+    }
+
+    /**
+     * Save the states of the widgets in the currently bound PaymentCard
+     */
+    void saveWidgetStates() {
+        if (paymentCard == null || !formInflated) {
+            return;
+        }
+        for (FormWidget widget : widgets.values()) {
+            paymentCard.putWidgetState(widget.getKey(), saveWidgetState(widget));
+        }
+    }
+
+    /**
+     * Called when this ViewHolder is recycled, the widget states are saved in the bound PaymentCard
+     * and the card is considered to be collapsed from now on. The loaded logos are released.
+     */
+    void onRecycled() {
+        saveWidgetStates();
+        setExpanded(false);
+        NetworkLogoLoader.clearNetworkLogo(cardLogoView);
+        releaseFormWidgets();
+    }
+
+    private void releaseFormWidgets() {
+        for (FormWidget widget : widgets.values()) {
+            widget.release();
+        }
+    }
+
+    /**
+     * Is this ViewHolder binding a PaymentCard, widget events caused by restoring widget states are ignored while binding.
+     *
+     * @return true when binding, false otherwise
+     */
+    boolean isBinding() {
+        return binding;
+    }
+
     boolean hasUserInputData() {
+        if (!formInflated) {
+            return false;
+        }
         for (FormWidget widget : widgets.values()) {
             if (widget.hasUserInputData()) {
                 return true;
@@ -121,8 +251,7 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
         return adapter.validPosition(getAdapterPosition());
     }
 
-    void addInputElementWidgets(List<InputElement> inputElements) {
-        String code = paymentCard.getNetworkCode();
+    void addInputElementWidgets(String code, List<InputElement> inputElements) {
         boolean elementsContainExpiryDate = PaymentUtils.containsExpiryDate(inputElements);
 
         for (InputElement element : inputElements) {
@@ -193,6 +322,7 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
 
     void putFormWidget(FormWidget widget) {
         widget.setPresenter(cardHandler);
+        widget.setViewPool(adapter.getViewPool());
         widgets.put(widget.getKey(), widget);
     }
 
@@ -202,8 +332,7 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
         String category = INPUTELEMENT;
 
         if (checkLayoutWidgetsInRow(category, VERIFICATION_CODE, EXPIRY_DATE)) {
-            LayoutInflater inflater = LayoutInflater.from(formLayout.getContext());
-            rowLayout = (ViewGroup) inflater.inflate(R.layout.layout_widget_row, formLayout, false);
+            rowLayout = (ViewGroup) adapter.getViewPool().inflate(formLayout, R.layout.layout_widget_row);
         }
 
         for (FormWidget widget : widgets.values()) {
@@ -218,6 +347,9 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
             }
             formLayout.addView(widget.inflate(formLayout));
         }
+        for (FormWidget widget : widgets.values()) {
+            initialWidgetStates.put(widget.getKey(), saveWidgetState(widget));
+        }
     }
 
     private void layoutWidgetInRow(FormWidget widget, ViewGroup rowLayout) {
@@ -274,12 +406,52 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
 
     void expand(boolean expand) {
         if (paymentCard.getHideInputForm()) {
+            setExpanded(false);
             formLayout.setVisibility(View.GONE);
             return;
         }
+        if (expand) {
+            inflateForm();
+        }
+        setExpanded(expand);
         formLayout.setVisibility(expand ? View.VISIBLE : View.GONE);
     }
 
+    private void setExpanded(boolean expand) {
+        if (expanded && !expand) {
+            collapsedTime = SystemClock.elapsedRealtime();
+        }
+        expanded = expand;
+    }
+
+    private void bindFormWidgets() {
+        binding = true;
+        try {
+            restoreWidgetStates(initialWidgetStates);
+            onBindFormWidgets();
+            for (FormWidget widget : widgets.values()) {
+                restoreWidgetState(widget, paymentCard.getWidgetState(widget.getKey()));
+            }
+        } finally {
+            binding = false;
+        }
+        if (paymentCard.consumeRestoredUserInput()) {
+            // The input restored from another PaymentCard is set again once the list has finished binding,
+            // so state derived from it, like the networks selected by the SmartSwitch, is rebuilt
+            final PaymentCard card = paymentCard;
+            itemView.post(() -> notifyRestoredInput(card));
+        }
+    }
+
+    private void notifyRestoredInput(PaymentCard card) {
+        if (paymentCard != card || !formInflated) {
+            return;
+        }
+        for (FormWidget widget : widgets.values()) {
+            widget.notifyInputValue();
+        }
+    }
+
     void bindFormWidget(FormWidget widget) {
         String category = widget.getCategory();
 
@@ -356,16 +528,37 @@ public abstract class PaymentCardViewHolder extends RecyclerView.ViewHolder {
     }
 
     void bindCardLogo(int logoResId) {
+        NetworkLogoLoader.clearNetworkLogo(cardLogoView);
         cardLogoView.setImageResource(logoResId);
     }
 
     void bindCardLogo(String networkCode, URL url) {
         if (networkCode == null || url == null) {
+            // the recycled logo view may still show or load the logo of the previous card
+            NetworkLogoLoader.clearNetworkLogo(cardLogoView);
             return;
         }
         NetworkLogoLoader.loadNetworkLogo(cardLogoView, networkCode, url);
     }
 
+    private SparseArray<Parcelable> saveWidgetState(FormWidget widget) {
+        SparseArray<Parcelable> state = new SparseArray<>();
+        widget.getRootView().saveHierarchyState(state);
+        return state;
+    }
+
+    private void restoreWidgetStates(Map<String, SparseArray<Parcelable>> states) {
+        for (FormWidget widget : widgets.values()) {
+            restoreWidgetState(widget, states.get(widget.getKey()));
+        }
+    }
+
+    private void restoreWidgetState(FormWidget widget, SparseArray<Parcelable> state) {
+        if (state != null) {
+            widget.getRootView().restoreHierarchyState(state);
+        }
+    }
+
     void setLastImeOptions() {
         List<String> keys = new ArrayList<>(widgets.keySet());
         Collections.reverse(keys);
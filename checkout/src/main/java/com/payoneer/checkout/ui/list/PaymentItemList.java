@@ -8,19 +8,37 @@
 
 package com.payoneer.checkout.ui.list;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
 /**
  * Class containing the payment ListItems and keeping track of the currently selected ListItem.
+ * New lists of items are compared with the current list in a background thread and only the differences
+ * are dispatched to the ListUpdateCallback. Every committed list is indexed by view type and item id
+ * so that lookups do not scan the items.
  */
 final class PaymentItemList {
 
-    private final List<ListItem> items;
+    private final AsyncListDiffer<ListItem> differ;
+    private final SparseArray<ListItem> viewTypeItems;
+    private final LongSparseArray<Integer> itemPositions;
+    private List<ListItem> items;
     private int selectedIndex;
 
-    PaymentItemList() {
-        this.items = new ArrayList<>();
+    PaymentItemList(ListUpdateCallback updateCallback) {
+        AsyncDifferConfig<ListItem> config = new AsyncDifferConfig.Builder<>(new ListItemDiffCallback()).build();
+        this.differ = new AsyncListDiffer<>(updateCallback, config);
+        this.viewTypeItems = new SparseArray<>();
+        this.itemPositions = new LongSparseArray<>();
+        this.items = Collections.emptyList();
+        this.selectedIndex = -1;
+        differ.addListListener((previousItems, currentItems) -> onItemsChanged(currentItems));
     }
 
     int getSelectedIndex() {
@@ -35,9 +53,28 @@ final class PaymentItemList {
         return index >= 0 && index < items.size() ? items.get(index) : null;
     }
 
+    List<ListItem> getItems() {
+        return items;
+    }
+
     void clear() {
         selectedIndex = -1;
-        items.clear();
+        differ.submitList(null);
+    }
+
+    /**
+     * Submit a new list of items, the differences with the current list are calculated in a background thread.
+     * When a newer list is submitted before the differences have been calculated, this list is never committed.
+     *
+     * @param items the new list of items
+     * @param selectedIndex index of the selected item in the new list
+     * @param commitCallback called on the main thread after the new list has been committed
+     */
+    void submitItems(List<ListItem> items, int selectedIndex, Runnable commitCallback) {
+        differ.submitList(items, () -> {
+            this.selectedIndex = selectedIndex;
+            commitCallback.run();
+        });
     }
 
     boolean validIndex(int index) {
@@ -45,12 +82,17 @@ final class PaymentItemList {
     }
 
     ListItem getItemWithViewType(int viewType) {
-        for (ListItem item : items) {
-            if (item.viewType == viewType) {
-                return item;
-            }
-        }
-        return null;
+        return viewTypeItems.get(viewType);
+    }
+
+    /**
+     * Get the index of the item with the given id
+     *
+     * @param id of the item
+     * @return the index of the item or -1 if not found
+     */
+    int indexOfItem(long id) {
+        return itemPositions.get(id, -1);
     }
 
     int getItemCount() {
@@ -61,10 +103,27 @@ final class PaymentItemList {
         return items.get(index).viewType;
     }
 
-    void addItem(ListItem item, boolean preselected) {
-        items.add(item);
-        if (preselected) {
-            selectedIndex = items.size() - 1;
+    long getItemId(int index) {
+        return items.get(index).id;
+    }
+
+    /**
+     * Called when a new list of items has been committed, the list is indexed before the RecyclerView
+     * creates or binds any ViewHolder for the new items.
+     *
+     * @param currentItems the committed list of items
+     */
+    void onItemsChanged(List<ListItem> currentItems) {
+        items = currentItems;
+        viewTypeItems.clear();
+        itemPositions.clear();
+
+        for (int i = 0, e = currentItems.size(); i < e; i++) {
+            ListItem item = currentItems.get(i);
+            if (viewTypeItems.get(item.viewType) == null) {
+                viewTypeItems.put(item.viewType, item);
+            }
+            itemPositions.put(item.id, i);
         }
     }
 }
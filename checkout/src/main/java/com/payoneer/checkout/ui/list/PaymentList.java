@@ -8,13 +8,29 @@
 
 package com.payoneer.checkout.ui.list;
 
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.payoneer.checkout.core.PaymentLinkType;
 import com.payoneer.checkout.payment.PaymentInputValues;
+import com.payoneer.checkout.ui.model.AccountCard;
+import com.payoneer.checkout.ui.model.NetworkCard;
 import com.payoneer.checkout.ui.model.PaymentCard;
+import com.payoneer.checkout.ui.model.PaymentNetwork;
 import com.payoneer.checkout.ui.model.PaymentSection;
 import com.payoneer.checkout.ui.model.PaymentSession;
+import com.payoneer.checkout.ui.widget.WidgetViewPool;
 
 import android.app.Activity;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.os.IBinder;
 import android.view.View;
 import android.view.inputmethod.InputMethodManager;
@@ -27,14 +43,20 @@ import androidx.recyclerview.widget.SimpleItemAnimator;
  * The PaymentList showing available payment methods and accounts in a list
  */
 public final class PaymentList {
+    private final static long FORM_RELEASE_DELAY = TimeUnit.SECONDS.toMillis(30);
+
     private final Activity activity;
     private final PaymentListListener listener;
     private final RecyclerView recyclerView;
     private final ListAdapter adapter;
     private final PaymentItemList itemList;
+    private final WidgetViewPool viewPool;
+    private final Map<String, Long> itemIds;
+    private final Map<String, Integer> viewTypes;
 
     private PaymentSession session;
     private int nextViewType;
+    private long nextItemId;
 
     /**
      * Construct a new PaymentList handling the RecyclerView
@@ -48,8 +70,11 @@ public final class PaymentList {
         this.listener = listener;
         this.recyclerView = recyclerView;
 
-        this.itemList = new PaymentItemList();
-        this.adapter = new ListAdapter(createCardListener(), itemList);
+        this.viewPool = new WidgetViewPool(recyclerView.getContext());
+        this.adapter = new ListAdapter(createCardListener(), viewPool);
+        this.itemList = adapter.getItemList();
+        this.itemIds = new HashMap<>();
+        this.viewTypes = new HashMap<>();
 
         this.recyclerView.setAdapter(adapter);
         this.recyclerView.setLayoutManager(new LinearLayoutManager(activity));
@@ -58,6 +83,7 @@ public final class PaymentList {
         if (animator instanceof SimpleItemAnimator) {
             ((SimpleItemAnimator) animator).setSupportsChangeAnimations(false);
         }
+        initMemoryCallbacks();
     }
 
     public void onStop() {
@@ -70,27 +96,53 @@ public final class PaymentList {
             session = null;
         }
         itemList.clear();
-        adapter.notifyDataSetChanged();
+    }
+
+    /**
+     * Pre-inflate the layouts of the form widgets in a background thread, i.e. while the PaymentSession is loading
+     */
+    public void preinflateForms() {
+        viewPool.preinflateFormWidgets();
     }
 
     public boolean hasUserInputData() {
         return session != null && session.hasUserInputData();
     }
 
+    /**
+     * Show the PaymentSession in this list. When another PaymentSession is already shown, the differences
+     * between both sessions are calculated in the background and only the changed cards are bound again.
+     *
+     * @param session to be shown in this list
+     */
     public void showPaymentSession(PaymentSession session) {
         if (this.session == session) {
             setVisible(true);
             return;
         }
-        clear();
+        if (this.session != null) {
+            if (session.isRevalidated()) {
+                restoreUserInput(this.session, session);
+            }
+            this.session.reset();
+        }
         this.session = session;
-        setPaymentSessionItems(session);
-
+        boolean initialLoad = itemList.getItemCount() == 0;
+        ListItem selectedItem = itemList.getItem(itemList.getSelectedIndex());
+        List<ListItem> items = new ArrayList<>();
+        int selectedIndex = createPaymentSessionItems(session, items);
+
+        itemList.submitItems(items, selectedIndex, () -> {
+            adapter.swapPaymentCards();
+            if (selectedIndex == -1 && selectedItem != null) {
+                itemList.setSelectedIndex(itemList.indexOfItem(selectedItem.id));
+            }
+            if (initialLoad) {
+                int scrollPosition = calculateScrollPosition(itemList.getSelectedIndex());
+                recyclerView.scrollToPosition(scrollPosition);
+            }
+        });
         setVisible(true);
-        adapter.notifyDataSetChanged();
-
-        int scrollPosition = calculateScrollPosition(itemList.getSelectedIndex());
-        recyclerView.scrollToPosition(scrollPosition);
     }
 
     public void setVisible(boolean visible) {
@@ -103,6 +155,48 @@ public final class PaymentList {
         return (HeaderItem.isHeaderItem(item)) ? headerIndex : index;
     }
 
+    /**
+     * Release the forms of collapsed cards when the system runs low on memory, the callbacks are only registered
+     * while the list is attached to the window.
+     */
+    private void initMemoryCallbacks() {
+        ComponentCallbacks2 callbacks = new ComponentCallbacks2() {
+            @Override
+            public void onTrimMemory(int level) {
+                if (level >= TRIM_MEMORY_UI_HIDDEN) {
+                    viewPool.clear();
+                    adapter.releaseCollapsedForms(0);
+                } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+                    adapter.releaseCollapsedForms(FORM_RELEASE_DELAY);
+                }
+            }
+
+            @Override
+            public void onLowMemory() {
+                viewPool.clear();
+                adapter.releaseCollapsedForms(0);
+            }
+
+            @Override
+            public void onConfigurationChanged(Configuration newConfig) {
+            }
+        };
+        recyclerView.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+            @Override
+            public void onViewAttachedToWindow(View view) {
+                activity.registerComponentCallbacks(callbacks);
+            }
+
+            @Override
+            public void onViewDetachedFromWindow(View view) {
+                activity.unregisterComponentCallbacks(callbacks);
+            }
+        });
+        if (recyclerView.isAttachedToWindow()) {
+            activity.registerComponentCallbacks(callbacks);
+        }
+    }
+
     private PaymentCardListener createCardListener() {
         return new PaymentCardListener() {
             @Override
@@ -219,21 +313,92 @@ public final class PaymentList {
         }
     }
 
-    private void setPaymentSessionItems(PaymentSession paymentSession) {
+    private int createPaymentSessionItems(PaymentSession paymentSession, List<ListItem> items) {
+        Set<String> keys = new HashSet<>();
+        int selectedIndex = -1;
+
         for (PaymentSection section : paymentSession.getPaymentSections()) {
-            addPaymentSectionItems(section);
+            long headerId = itemId(keys, "header:" + section.getTitle());
+            int headerViewType = viewType(HeaderItem.LAYOUT);
+            items.add(new HeaderItem(headerId, headerViewType, section.getTitle(), section.getMessage()));
+
+            for (PaymentCard card : section.getPaymentCards()) {
+                long id = itemId(keys, createItemKey(card));
+                String layout = PaymentCardItem.createLayout(card);
+                items.add(new PaymentCardItem(id, viewType(layout), layout, card));
+                if (card.isPreselected()) {
+                    selectedIndex = items.size() - 1;
+                }
+            }
         }
+        return selectedIndex;
     }
 
-    private void addPaymentSectionItems(PaymentSection section) {
-        itemList.addItem(new HeaderItem(nextViewType(), section.getTitle(), section.getMessage()), false);
-        for (PaymentCard card : section.getPaymentCards()) {
-            PaymentCardItem item = new PaymentCardItem(nextViewType(), card);
-            itemList.addItem(item, card.isPreselected());
+    /**
+     * Restore the input entered by the user in the cards of the current PaymentSession in the same cards
+     * of the new PaymentSession, the states of the inflated form widgets are saved first.
+     */
+    private void restoreUserInput(PaymentSession currentSession, PaymentSession newSession) {
+        adapter.saveWidgetStates();
+        Map<String, PaymentCard> currentCards = new HashMap<>();
+        for (PaymentSection section : currentSession.getPaymentSections()) {
+            for (PaymentCard card : section.getPaymentCards()) {
+                currentCards.put(createItemKey(card), card);
+            }
+        }
+        for (PaymentSection section : newSession.getPaymentSections()) {
+            for (PaymentCard card : section.getPaymentCards()) {
+                PaymentCard currentCard = currentCards.get(createItemKey(card));
+                if (currentCard != null) {
+                    card.restoreUserInput(currentCard);
+                }
+            }
         }
     }
 
-    private int nextViewType() {
-        return nextViewType++;
+    /**
+     * Create the key identifying the card across PaymentSessions, saved accounts are identified by their
+     * self or operation link and payment networks by their network codes.
+     */
+    private String createItemKey(PaymentCard card) {
+        if (card instanceof NetworkCard) {
+            StringBuilder sb = new StringBuilder("network");
+            for (PaymentNetwork network : ((NetworkCard) card).getPaymentNetworks()) {
+                sb.append(':').append(network.getNetworkCode());
+            }
+            return sb.toString();
+        }
+        URL link = card.getLink(PaymentLinkType.SELF);
+        if (link == null) {
+            link = card.getOperationLink();
+        }
+        String prefix = (card instanceof AccountCard) ? "account:" : "preset:";
+        return prefix + card.getNetworkCode() + ":" + link;
+    }
+
+    private long itemId(Set<String> keys, String key) {
+        String uniqueKey = key;
+        for (int i = 1; !keys.add(uniqueKey); i++) {
+            uniqueKey = key + "#" + i;
+        }
+        Long id = itemIds.get(uniqueKey);
+        if (id == null) {
+            id = nextItemId++;
+            itemIds.put(uniqueKey, id);
+        }
+        return id;
+    }
+
+    /**
+     * Get the view type for the layout, all items with the same layout share the same view type
+     * so that their ViewHolders can be recycled.
+     */
+    private int viewType(String layout) {
+        Integer viewType = viewTypes.get(layout);
+        if (viewType == null) {
+            viewType = nextViewType++;
+            viewTypes.put(layout, viewType);
+        }
+        return viewType;
     }
 }
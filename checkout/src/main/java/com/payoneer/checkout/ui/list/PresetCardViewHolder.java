@@ -11,7 +11,6 @@ package com.payoneer.checkout.ui.list;
 import com.google.android.material.card.MaterialCardView;
 import com.payoneer.checkout.R;
 import com.payoneer.checkout.ui.model.PresetCard;
-import com.payoneer.checkout.ui.widget.FormWidget;
 import com.payoneer.checkout.util.PaymentUtils;
 
 import android.view.LayoutInflater;
@@ -31,8 +30,8 @@ final class PresetCardViewHolder extends PaymentCardViewHolder {
     private final MaterialCardView card;
     private final ImageView expiredIconView;
 
-    private PresetCardViewHolder(ListAdapter adapter, View parent, PresetCard presetCard) {
-        super(adapter, parent, presetCard);
+    private PresetCardViewHolder(ListAdapter adapter, View parent) {
+        super(adapter, parent);
         titleView = parent.findViewById(R.id.text_title);
         subtitleView = parent.findViewById(R.id.text_subtitle);
         card = parent.findViewById(R.id.card_preset);
@@ -43,17 +42,12 @@ final class PresetCardViewHolder extends PaymentCardViewHolder {
         expiredIconView.setOnClickListener(icon -> {
             cardHandler.onExpiredIconClicked();
         });
-
-        addExtraElementWidgets(presetCard.getTopExtraElements());
-        addExtraElementWidgets(presetCard.getTopExtraElements());
-        addButtonWidget();
-        layoutWidgets();
     }
 
-    static RecyclerView.ViewHolder createInstance(ListAdapter adapter, PresetCard presetCard, ViewGroup parent) {
+    static RecyclerView.ViewHolder createInstance(ListAdapter adapter, ViewGroup parent) {
         LayoutInflater inflater = LayoutInflater.from(parent.getContext());
         View view = inflater.inflate(R.layout.list_item_presetcard, parent, false);
-        return new PresetCardViewHolder(adapter, view, presetCard);
+        return new PresetCardViewHolder(adapter, view);
     }
 
     void onBind() {
@@ -63,13 +57,14 @@ final class PresetCardViewHolder extends PaymentCardViewHolder {
         bindLabel(titleView, card.getTitle(), false);
         bindLabel(subtitleView, card.getSubtitle(), true, card.isExpired());
         bindCardLogo(paymentCard.getNetworkCode(), card.getLogoLink());
+        expiredIconView.setVisibility(card.isExpired() ? View.VISIBLE : View.GONE);
+    }
 
-        for (FormWidget widget : widgets.values()) {
-            bindFormWidget(widget);
-        }
-        if (card.isExpired()) {
-            expiredIconView.setVisibility(View.VISIBLE);
-        }
+    @Override
+    void createFormWidgets() {
+        addExtraElementWidgets(paymentCard.getTopExtraElements());
+        addExtraElementWidgets(paymentCard.getTopExtraElements());
+        addButtonWidget();
     }
 
     @Override
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.model;
+
+/**
+ * Prefix trie for detecting the card brands of a card number. Every brand is added with its smart selection regex
+ * which must be of the form "^(prefix|prefix)[0-9]*$", i.e. "^(34|37)[0-9]*$". A prefix consists of digits and
+ * digit classes like [1-5] optionally followed by a quantifier like {2}.
+ * <p>
+ * Matching a card number walks the trie once and does not allocate, the result is a bitmask with a bit set for each
+ * brand whose regex matches the card number. This class is not thread safe while brands are being added.
+ */
+public final class CardPrefixTrie {
+
+    /**
+     * Maximum number of brands, each brand is represented by a bit in the match result
+     */
+    public final static int MAX_BRANDS = 64;
+
+    private final static String DIGITS_SUFFIX = "[0-9]*";
+    private final static int ALL_DIGITS = 0x3FF;
+    private final static int MAX_PREFIX_LENGTH = 32;
+
+    private final Node root = new Node();
+
+    /**
+     * Add the brand with the given index and smart selection regex to this trie
+     *
+     * @param index of the brand, the bit with this index is set in the match result
+     * @param regex the smart selection regex of the brand
+     * @return true when added, false when the regex is not supported by this trie
+     */
+    public boolean add(final int index, final String regex) {
+        if (index < 0 || index >= MAX_BRANDS || regex == null) {
+            return false;
+        }
+        int[][] prefixes = parse(regex);
+        if (prefixes == null) {
+            return false;
+        }
+        long bit = 1L << index;
+        for (int[] prefix : prefixes) {
+            insert(root, prefix, 0, bit);
+        }
+        return true;
+    }
+
+    /**
+     * Match the card number against all brands in this trie
+     *
+     * @param number the card number to match
+     * @return bitmask with a bit set for each brand matching the card number
+     */
+    public long match(final CharSequence number) {
+        Node node = root;
+        long mask = root.mask;
+        for (int i = 0, len = number.length(); i < len; i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            if (node != null) {
+                node = node.children[c - '0'];
+                if (node != null) {
+                    mask |= node.mask;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private void insert(final Node node, final int[] prefix, final int position, final long bit) {
+        if (position == prefix.length) {
+            node.mask |= bit;
+            return;
+        }
+        int digits = prefix[position];
+        for (int digit = 0; digit < 10; digit++) {
+            if ((digits & (1 << digit)) != 0) {
+                Node child = node.children[digit];
+                if (child == null) {
+                    child = new Node();
+                    node.children[digit] = child;
+                }
+                insert(child, prefix, position + 1, bit);
+            }
+        }
+    }
+
+    /**
+     * Parse the regex into its list of prefixes, each prefix position holds a bitmask of the allowed digits.
+     *
+     * @return the prefixes or null if the regex is not supported
+     */
+    private static int[][] parse(final String regex) {
+        String body = regex;
+        if (body.startsWith("^")) {
+            body = body.substring(1);
+        }
+        if (body.endsWith("$")) {
+            body = body.substring(0, body.length() - 1);
+        }
+        if (!body.endsWith(DIGITS_SUFFIX)) {
+            return null;
+        }
+        body = body.substring(0, body.length() - DIGITS_SUFFIX.length());
+        if (body.startsWith("(?:") && body.endsWith(")")) {
+            body = body.substring(3, body.length() - 1);
+        } else if (body.startsWith("(") && body.endsWith(")")) {
+            body = body.substring(1, body.length() - 1);
+        } else if (body.indexOf('|') >= 0) {
+            // an alternation outside of a group does not apply to the digits suffix
+            return null;
+        }
+        String[] alternatives = body.split("\\|", -1);
+        int[][] prefixes = new int[alternatives.length][];
+        for (int i = 0; i < alternatives.length; i++) {
+            prefixes[i] = parseSequence(alternatives[i]);
+            if (prefixes[i] == null) {
+                return null;
+            }
+        }
+        return prefixes;
+    }
+
+    private static int[] parseSequence(final String sequence) {
+        int[] positions = new int[MAX_PREFIX_LENGTH];
+        int length = 0;
+        int i = 0;
+        while (i < sequence.length()) {
+            int digits;
+            char c = sequence.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = 1 << (c - '0');
+                i++;
+            } else if (c == '[') {
+                int end = sequence.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                digits = parseClass(sequence.substring(i + 1, end));
+                if (digits == 0) {
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                return null;
+            }
+            int repeat = 1;
+            if (i < sequence.length() && sequence.charAt(i) == '{') {
+                int end = sequence.indexOf('}', i);
+                if (end < 0) {
+                    return null;
+                }
+                try {
+                    repeat = Integer.parseInt(sequence.substring(i + 1, end));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                i = end + 1;
+            }
+            if (repeat < 0 || length + repeat > MAX_PREFIX_LENGTH) {
+                return null;
+            }
+            for (int r = 0; r < repeat; r++) {
+                positions[length++] = digits;
+            }
+        }
+        int[] prefix = new int[length];
+        System.arraycopy(positions, 0, prefix, 0, length);
+        return prefix;
+    }
+
+    private static int parseClass(final String digitClass) {
+        if (digitClass.isEmpty() || digitClass.charAt(0) == '^') {
+            return 0;
+        }
+        int digits = 0;
+        int i = 0;
+        while (i < digitClass.length()) {
+            char from = digitClass.charAt(i);
+            if (from < '0' || from > '9') {
+                return 0;
+            }
+            char to = from;
+            if (i + 2 < digitClass.length() && digitClass.charAt(i + 1) == '-') {
+                to = digitClass.charAt(i + 2);
+                if (to < from || to > '9') {
+                    return 0;
+                }
+                i += 3;
+            } else {
+                i++;
+            }
+            for (char d = from; d <= to; d++) {
+                digits |= 1 << (d - '0');
+            }
+        }
+        return digits & ALL_DIGITS;
+    }
+
+    private final static class Node {
+        final Node[] children = new Node[10];
+        long mask;
+    }
+}
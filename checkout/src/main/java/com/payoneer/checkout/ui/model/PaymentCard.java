@@ -11,6 +11,7 @@ package com.payoneer.checkout.ui.model;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,7 +21,9 @@ import com.payoneer.checkout.model.ExtraElements;
 import com.payoneer.checkout.model.InputElement;
 import com.payoneer.checkout.util.PaymentUtils;
 
+import android.os.Parcelable;
 import android.text.TextUtils;
+import android.util.SparseArray;
 
 /**
  * Base class for all payment cards like the AccountCard, PresetCard and NetworkCard
@@ -33,7 +36,9 @@ public abstract class PaymentCard {
     private boolean disabled;
     private boolean preselected;
     private boolean expired;
-    final List<String> userInputTypes;
+    private final List<String> userInputTypes;
+    private final Map<String, SparseArray<Parcelable>> widgetStates;
+    private boolean userInputRestored;
 
     /**
      * Construct a PaymentCard, when a card is checkable and marked as checked
@@ -44,6 +49,7 @@ public abstract class PaymentCard {
     public PaymentCard(ExtraElements extraElements) {
         this.extraElements = extraElements;
         this.userInputTypes = new ArrayList<>();
+        this.widgetStates = new HashMap<>();
     }
 
     public void setDisabled(final boolean disabled) {
@@ -215,6 +221,62 @@ public abstract class PaymentCard {
      */
     public void reset() {
         userInputTypes.clear();
+        widgetStates.clear();
+        userInputRestored = false;
+    }
+
+    /**
+     * Restore the user input of the previous PaymentCard in this PaymentCard, i.e. when the PaymentSession in which
+     * the user has entered data is replaced by a revalidated PaymentSession. Only the saved widget states and the
+     * types of the entered input are copied, state derived from the input, like the networks selected by the
+     * SmartSwitch, is rebuilt from the restored widgets once they are bound.
+     *
+     * @param previous PaymentCard containing the user input
+     */
+    public void restoreUserInput(PaymentCard previous) {
+        if (previous == this || previous.widgetStates.isEmpty()) {
+            return;
+        }
+        widgetStates.putAll(previous.widgetStates);
+        for (String type : previous.userInputTypes) {
+            if (!userInputTypes.contains(type)) {
+                userInputTypes.add(type);
+            }
+        }
+        userInputRestored = true;
+    }
+
+    /**
+     * Check if the user input has been restored in this PaymentCard and has not been set again from the restored
+     * widgets yet, the restored state is only reported once.
+     *
+     * @return true when the input of the restored widgets should be set again, false otherwise
+     */
+    public boolean consumeRestoredUserInput() {
+        boolean restored = userInputRestored;
+        userInputRestored = false;
+        return restored;
+    }
+
+    /**
+     * Put the saved view state of a form widget in this PaymentCard. ViewHolders are recycled between
+     * payment cards, the state is restored when this card is bound to a ViewHolder again.
+     *
+     * @param widgetKey key of the form widget
+     * @param state saved view hierarchy state of the form widget
+     */
+    public void putWidgetState(String widgetKey, SparseArray<Parcelable> state) {
+        widgetStates.put(widgetKey, state);
+    }
+
+    /**
+     * Get the saved view state of a form widget in this PaymentCard
+     *
+     * @param widgetKey key of the form widget
+     * @return the saved view hierarchy state or null if not saved
+     */
+    public SparseArray<Parcelable> getWidgetState(String widgetKey) {
+        return widgetStates.get(widgetKey);
     }
 
     /**
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.payoneer.checkout.localization.Localization;
 import com.payoneer.checkout.model.ListResult;
 import com.payoneer.checkout.model.ProviderParameters;
 
@@ -30,6 +31,10 @@ public final class PaymentSession {
     private final ListResult listResult;
     private final List<PaymentSection> paymentSections;
     private final boolean swipeRefresh;
+    private PaymentSessionTimings timings;
+    private Localization localization;
+    private boolean restored;
+    private boolean revalidated;
 
     /**
      * Construct a new PaymentSession object
@@ -56,6 +61,49 @@ public final class PaymentSession {
         return swipeRefresh;
     }
 
+    public PaymentSessionTimings getTimings() {
+        return timings;
+    }
+
+    public void setTimings(PaymentSessionTimings timings) {
+        this.timings = timings;
+    }
+
+    public Localization getLocalization() {
+        return localization;
+    }
+
+    public void setLocalization(Localization localization) {
+        this.localization = localization;
+    }
+
+    /**
+     * Check if this PaymentSession has been restored from a snapshot instead of being loaded from the Payment API
+     *
+     * @return true when restored, false otherwise
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
+    public void setRestored(boolean restored) {
+        this.restored = restored;
+    }
+
+    /**
+     * Check if this PaymentSession has been loaded from the Payment API to revalidate a restored PaymentSession.
+     * The input entered by the user in the restored PaymentSession is carried over into this PaymentSession.
+     *
+     * @return true when revalidated, false otherwise
+     */
+    public boolean isRevalidated() {
+        return revalidated;
+    }
+
+    public void setRevalidated(boolean revalidated) {
+        this.revalidated = revalidated;
+    }
+
     public URL getListLanguageLink() {
         return getListLink(LANGUAGE);
     }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Class storing the time in milliseconds spent in each phase of loading a PaymentSession.
+ * Phases running in the background while other phases are executed only account for the time
+ * the loading of the PaymentSession had to wait for them.
+ */
+public final class PaymentSessionTimings {
+
+    public final static String PHASE_LIST = "list";
+    public final static String PHASE_GROUPS = "groups";
+    public final static String PHASE_VALIDATIONS = "validations";
+    public final static String PHASE_LOCALIZATIONS = "localizations";
+    public final static String PHASE_RISK = "risk";
+
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    /**
+     * Put the duration of a phase in this PaymentSessionTimings
+     *
+     * @param phase name of the phase, e.g. PHASE_LIST
+     * @param millis duration of the phase in milliseconds
+     */
+    public void putTiming(final String phase, final long millis) {
+        timings.put(phase, millis);
+    }
+
+    /**
+     * Get the duration of the phase
+     *
+     * @param phase name of the phase
+     * @return the duration in milliseconds or -1 if the phase has not been measured
+     */
+    public long getTiming(final String phase) {
+        Long millis = timings.get(phase);
+        return millis != null ? millis : -1;
+    }
+
+    /**
+     * Get the durations of all measured phases in the order in which they were executed
+     *
+     * @return unmodifiable map with the phase names and durations in milliseconds
+     */
+    public Map<String, Long> getTimings() {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /**
+     * Get the total duration of all measured phases
+     *
+     * @return total duration in milliseconds
+     */
+    public long getTotal() {
+        long total = 0;
+        for (long millis : timings.values()) {
+            total += millis;
+        }
+        return total;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "PaymentSessionTimings" + timings;
+    }
+}
@@ -17,30 +17,41 @@ import java.util.regex.Pattern;
 import android.text.TextUtils;
 
 /**
- * Class for storing and selecting payment networks based on smart switch logic
+ * Class for storing and selecting payment networks based on smart switch logic.
+ * The smart selection regexes are compiled into a CardPrefixTrie when the card number is validated the first time,
+ * networks with regexes not supported by the trie are matched using their Pattern.
  */
 public final class SmartSwitch {
 
     private final Map<String, Pattern> smartMapping;
     private final List<PaymentNetwork> networks;
     private final List<PaymentNetwork> smartSelected;
-    private final List<PaymentNetwork> smartBuffer;
+    private CardPrefixTrie trie;
+    private Pattern[] fallbackPatterns;
+    private int trieNetworkCount;
+    private long selectedMask;
 
     public SmartSwitch(List<PaymentNetwork> networks) {
         this.networks = networks;
         this.smartMapping = new HashMap<>();
         this.smartSelected = new ArrayList<>();
-        this.smartBuffer = new ArrayList<>();
     }
 
     public void addSelectionRegex(String code, String regex) {
         if (!TextUtils.isEmpty(regex)) {
-            smartMapping.put(code, Pattern.compile(regex));
+            addSelectionPattern(code, Pattern.compile(regex));
+        }
+    }
+
+    public void addSelectionPattern(String code, Pattern pattern) {
+        if (pattern != null) {
+            smartMapping.put(code, pattern);
+            trie = null;
         }
     }
 
     public void reset() {
-        smartBuffer.clear();
+        selectedMask = 0;
         smartSelected.clear();
     }
 
@@ -69,23 +80,67 @@ public final class SmartSwitch {
      * @return true when the smart selection of payment methods has changed, false otherwise
      */
     public boolean validate(String text) {
-        smartBuffer.clear();
+        if (networks.size() > CardPrefixTrie.MAX_BRANDS) {
+            return validateWithPatterns(text);
+        }
+        long mask = text != null ? match(text) : 0;
+        if (mask == selectedMask) {
+            return false;
+        }
+        selectedMask = mask;
+        smartSelected.clear();
+        for (int i = 0, size = networks.size(); i < size; i++) {
+            if ((mask & (1L << i)) != 0) {
+                smartSelected.add(networks.get(i));
+            }
+        }
+        return true;
+    }
+
+    private long match(String text) {
+        if (trie == null || trieNetworkCount != networks.size()) {
+            buildTrie();
+        }
+        long mask = trie.match(text);
+        for (int i = 0; i < fallbackPatterns.length; i++) {
+            Pattern pattern = fallbackPatterns[i];
+            if (pattern != null && pattern.matcher(text).matches()) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private void buildTrie() {
+        int size = networks.size();
+        trie = new CardPrefixTrie();
+        fallbackPatterns = new Pattern[size];
+        trieNetworkCount = size;
 
+        for (int i = 0; i < size; i++) {
+            Pattern pattern = smartMapping.get(networks.get(i).getNetworkCode());
+            if (pattern != null && (pattern.flags() != 0 || !trie.add(i, pattern.pattern()))) {
+                fallbackPatterns[i] = pattern;
+            }
+        }
+    }
+
+    private boolean validateWithPatterns(String text) {
+        List<PaymentNetwork> buffer = new ArrayList<>();
         if (text != null) {
             for (PaymentNetwork network : networks) {
                 Pattern pattern = smartMapping.get(network.getNetworkCode());
 
                 if (pattern != null && pattern.matcher(text).matches()) {
-                    smartBuffer.add(network);
+                    buffer.add(network);
                 }
             }
         }
-        if (!smartSelected.equals(smartBuffer)) {
+        if (!smartSelected.equals(buffer)) {
             smartSelected.clear();
-            smartSelected.addAll(smartBuffer);
+            smartSelected.addAll(buffer);
             return true;
         }
         return false;
     }
 }
-
@@ -132,7 +132,8 @@ public final class PaymentListFragment extends Fragment {
                     break;
                 case Resource.LOADING:
                     progressView.setVisible(true);
-                    clearPaymentSession();
+                    hidePaymentSession();
+                    paymentList.preinflateForms();
                     break;
                 case Resource.ERROR:
                     progressView.setVisible(false);
@@ -149,6 +150,12 @@ public final class PaymentListFragment extends Fragment {
         });
     }
 
+    private void hidePaymentSession() {
+        // The current items are kept so that only the differences with the next PaymentSession are applied
+        paymentList.setVisible(false);
+        resetSwipeRefreshLayout();
+    }
+
     private void clearPaymentSession() {
         paymentList.clear();
         resetSwipeRefreshLayout();
@@ -85,6 +85,7 @@ final class PaymentListViewModel extends AppContextViewModel {
     private ProcessPaymentData processPaymentData;
     private DeleteAccount deleteAccount;
     private boolean paymentCardActionLocked;
+    private boolean restoreAllowed = true;
 
     /**
      * Construct a new ProcessPaymentViewModel
@@ -144,11 +145,15 @@ final class PaymentListViewModel extends AppContextViewModel {
         if (serviceInteractor.onResume()) {
             return;
         }
-        if (paymentSession != null) {
-            setShowPaymentSession(Resource.SUCCESS, paymentSession);
+        if (paymentSession == null) {
+            restoreOrLoadPaymentSession();
             return;
         }
-        loadPaymentSession();
+        setShowPaymentSession(Resource.SUCCESS, paymentSession);
+        if (paymentSession.isRestored()) {
+            // The revalidation of the restored session has been stopped when the list was paused
+            sessionInteractor.loadPaymentSession(getApplicationContext());
+        }
     }
 
     void onPaymentListPause() {
@@ -163,11 +168,24 @@ final class PaymentListViewModel extends AppContextViewModel {
         sessionInteractor.loadPaymentSession(getApplicationContext());
     }
 
+    private void restoreOrLoadPaymentSession() {
+        // The snapshot is only restored when the list is shown for the first time, i.e. after a cold start or
+        // process death, an explicit reload always loads the list from the Payment API
+        if (!restoreAllowed) {
+            loadPaymentSession();
+            return;
+        }
+        restoreAllowed = false;
+        setShowPaymentSession(Resource.LOADING, null);
+        sessionInteractor.restorePaymentSession(getApplicationContext());
+    }
+
     void processPaymentCard(final PaymentCard paymentCard, final PaymentInputValues inputValues) {
-        // ignore multiple click events
-        if (!lockPaymentCardAction()) {
+        // ignore multiple click events and actions on a restored session which has not been revalidated yet
+        if (isPaymentSessionRestored() || !lockPaymentCardAction()) {
             return;
         }
+        sessionInteractor.clearPaymentSessionSnapshot(getApplicationContext());
         if (paymentCard instanceof PresetCard) {
             processPresetCard((PresetCard) paymentCard);
         } else {
@@ -187,10 +205,11 @@ final class PaymentListViewModel extends AppContextViewModel {
     }
 
     void deletePaymentCard(final PaymentCard paymentCard) {
-        // ignore multiple click events
-        if (!lockPaymentCardAction()) {
+        // ignore multiple click events and actions on a restored session which has not been revalidated yet
+        if (isPaymentSessionRestored() || !lockPaymentCardAction()) {
             return;
         }
+        sessionInteractor.clearPaymentSessionSnapshot(getApplicationContext());
         String networkCode = paymentCard.getNetworkCode();
         String paymentMethod = paymentCard.getPaymentMethod();
         List<String> providers = paymentCard.getProviders();
@@ -565,6 +584,10 @@ final class PaymentListViewModel extends AppContextViewModel {
         return InteractionMessage.fromOperationFlow(interaction, paymentSession.getListOperationType());
     }
 
+    private boolean isPaymentSessionRestored() {
+        return paymentSession != null && paymentSession.isRestored();
+    }
+
     private boolean lockPaymentCardAction() {
         return !paymentCardActionLocked && (paymentCardActionLocked = true);
     }
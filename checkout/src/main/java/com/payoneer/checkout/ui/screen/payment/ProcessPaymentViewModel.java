@@ -233,6 +233,10 @@ final class ProcessPaymentViewModel extends AppContextViewModel {
     }
 
     private void handleLoadPaymentSessionProceed(PaymentSession paymentSession) {
+        // The payment is only processed with a list loaded from the Payment API, and only once per loaded list
+        if (paymentSession.isRestored() || this.paymentSession != null) {
+            return;
+        }
         PresetAccount account = paymentSession.getListResult().getPresetAccount();
         if (account == null) {
             CheckoutResult checkoutResult = CheckoutResultHelper.fromErrorMessage("PresetAccount not found in ListResult");
@@ -254,6 +258,7 @@ final class ProcessPaymentViewModel extends AppContextViewModel {
     }
 
     private void processPayment() {
+        sessionInteractor.clearPaymentSessionSnapshot(getApplicationContext());
         try {
             serviceInteractor.loadPaymentService(processPaymentData.getNetworkCode(), processPaymentData.getPaymentMethod(),
                 processPaymentData.getProviders());
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.payoneer.checkout.R;
 import com.payoneer.checkout.core.PaymentException;
@@ -49,8 +50,6 @@ import com.payoneer.checkout.ui.model.RegistrationOptions;
 import com.payoneer.checkout.util.AccountMaskUtils;
 import com.payoneer.checkout.util.PaymentUtils;
 
-import android.text.TextUtils;
-
 /**
  * The PaymentSessionBuilder for building a PaymentSession from a ListResult
  * This builder will group PaymentNetworks together according to the provided group settings.
@@ -289,10 +288,10 @@ public final class PaymentSessionBuilder {
         throws PaymentException {
         String code = network.getNetworkCode();
         String groupId = group.getId();
-        String regex = group.getSmartSelectionRegex(code);
+        Pattern pattern = group.getSmartSelectionPattern(code);
         ExtraElements extraElements = listResult.getExtraElements();
 
-        if (TextUtils.isEmpty(regex)) {
+        if (pattern == null) {
             throw new PaymentException("Missing regex for network: " + code + " in group: " + groupId);
         }
         NetworkCard card = cards.get(groupId);
@@ -305,7 +304,7 @@ public final class PaymentSessionBuilder {
             addNetwork2SingleCard(cards, network, listResult);
             return;
         }
-        card.getSmartSwitch().addSelectionRegex(code, regex);
+        card.getSmartSwitch().addSelectionPattern(code, pattern);
     }
 
     /**
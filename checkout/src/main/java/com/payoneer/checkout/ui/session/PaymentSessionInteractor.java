@@ -59,6 +59,28 @@ public class PaymentSessionInteractor {
         }
     }
 
+    /**
+     * Restore the PaymentSession from the snapshot of the list, the observer is notified a second time once the
+     * restored PaymentSession has been revalidated with the Payment API.
+     *
+     * @param applicationContext context of the application
+     */
+    public void restorePaymentSession(final Context applicationContext) {
+        if (!sessionService.isActive()) {
+            sessionService.restorePaymentSession(configuration, applicationContext);
+        }
+    }
+
+    /**
+     * Remove the snapshot of the payment session, this must be called before an operation is posted or an account
+     * is deleted.
+     *
+     * @param applicationContext context of the application
+     */
+    public void clearPaymentSessionSnapshot(final Context applicationContext) {
+        PaymentSessionService.clearPaymentSessionSnapshot(applicationContext);
+    }
+
     /**
      * Observer interface for listening to events from this PaymentSession interactor.
      */
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.session;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.payoneer.checkout.CheckoutConfiguration;
+import com.payoneer.checkout.core.PaymentLinkType;
+import com.payoneer.checkout.core.WorkerFuture;
+import com.payoneer.checkout.model.AccountRegistration;
+import com.payoneer.checkout.model.ApplicableNetwork;
+import com.payoneer.checkout.model.ListResult;
+import com.payoneer.checkout.model.Networks;
+import com.payoneer.checkout.ui.model.PaymentSession;
+import com.payoneer.checkout.util.NetworkLogoLoader;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Class prefetching PaymentSessions before the Activity showing them has been started.
+ * The list result, localizations, validator and network logos are loaded while the Activity is being created,
+ * the PaymentSessionService takes the prefetched PaymentSession when it is asked to load the same list.
+ * A prefetched PaymentSession which has not been taken within the maximum age is discarded, expired prefetches are
+ * evicted when a new prefetch is started and by a delayed eviction posted on the main UI Thread.
+ * The Localization of a prefetched PaymentSession is only installed once the PaymentSession is delivered.
+ */
+public final class PaymentSessionPrefetcher {
+
+    private final static long MAX_AGE = TimeUnit.MINUTES.toNanos(1);
+
+    // guarded by the prefetches map
+    private final Map<String, Prefetch> prefetches = new HashMap<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable evictExpired = () -> evictExpired(System.nanoTime());
+
+    /**
+     * Get the instance of this PaymentSessionPrefetcher
+     *
+     * @return the instance of this PaymentSessionPrefetcher
+     */
+    public static PaymentSessionPrefetcher getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Start prefetching the PaymentSession of the list in the configuration, nothing is started when the same list
+     * is already being prefetched.
+     *
+     * @param configuration containing the URL pointing to the list on the Payment API
+     * @param applicationContext the application context used to load the PaymentSession
+     */
+    public void prefetch(final CheckoutConfiguration configuration, final Context applicationContext) {
+        String key = configuration.getListURL().toString();
+        long now = System.nanoTime();
+        synchronized (prefetches) {
+            Prefetch existing = prefetches.get(key);
+            if (existing != null && !existing.isExpired(now) && isUsable(existing.future)) {
+                return;
+            }
+            WorkerFuture<PaymentSession> future = new PaymentSessionService().startPaymentSession(configuration, applicationContext)
+                .thenApply(session -> {
+                    prefetchNetworkLogos(session, applicationContext);
+                    return session;
+                });
+            prefetches.put(key, new Prefetch(future, now));
+            if (existing != null) {
+                existing.future.cancel(true);
+            }
+        }
+        evictExpired(now);
+    }
+
+    /**
+     * Take the PaymentSession prefetched for the list, the prefetched PaymentSession may still be loading.
+     *
+     * @param listURL pointing to the list on the Payment API
+     * @return the WorkerFuture of the prefetched PaymentSession or null if not prefetched, expired or failed
+     */
+    WorkerFuture<PaymentSession> take(final URL listURL) {
+        Prefetch prefetch;
+        synchronized (prefetches) {
+            prefetch = prefetches.remove(listURL.toString());
+        }
+        if (prefetch == null) {
+            return null;
+        }
+        if (prefetch.isExpired(System.nanoTime()) || !isUsable(prefetch.future)) {
+            prefetch.future.cancel(true);
+            return null;
+        }
+        return prefetch.future;
+    }
+
+    /**
+     * Remove and cancel the prefetches older than the maximum age, the next eviction is posted for when the oldest
+     * remaining prefetch expires
+     */
+    private void evictExpired(final long now) {
+        long nextExpiry = Long.MAX_VALUE;
+        synchronized (prefetches) {
+            Iterator<Prefetch> iterator = prefetches.values().iterator();
+            while (iterator.hasNext()) {
+                Prefetch prefetch = iterator.next();
+                if (prefetch.isExpired(now)) {
+                    iterator.remove();
+                    prefetch.future.cancel(true);
+                } else {
+                    nextExpiry = Math.min(nextExpiry, prefetch.started + MAX_AGE - now);
+                }
+            }
+        }
+        if (nextExpiry != Long.MAX_VALUE) {
+            handler.removeCallbacks(evictExpired);
+            handler.postDelayed(evictExpired, TimeUnit.NANOSECONDS.toMillis(nextExpiry) + 1);
+        }
+    }
+
+    /**
+     * Check if the prefetched PaymentSession is still loading or has been loaded successfully
+     */
+    private static boolean isUsable(final WorkerFuture<PaymentSession> future) {
+        if (!future.isDone()) {
+            return true;
+        }
+        try {
+            future.get();
+            return true;
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void prefetchNetworkLogos(final PaymentSession session, final Context context) {
+        ListResult listResult = session.getListResult();
+        Map<String, URL> logos = new HashMap<>();
+        List<AccountRegistration> accounts = listResult.getAccounts();
+        if (accounts != null) {
+            for (AccountRegistration account : accounts) {
+                putLogoLink(logos, account.getCode(), account.getLinks());
+            }
+        }
+        Networks networks = listResult.getNetworks();
+        if (networks != null && networks.getApplicable() != null) {
+            for (ApplicableNetwork network : networks.getApplicable()) {
+                putLogoLink(logos, network.getCode(), network.getLinks());
+            }
+        }
+        NetworkLogoLoader.getInstance().prefetchNetworkLogos(context, logos);
+    }
+
+    private static void putLogoLink(final Map<String, URL> logos, final String code, final Map<String, URL> links) {
+        URL url = links != null ? links.get(PaymentLinkType.LOGO) : null;
+        if (code != null && url != null) {
+            logos.put(code, url);
+        }
+    }
+
+    /**
+     * A PaymentSession being prefetched together with the time it was started
+     */
+    private static class Prefetch {
+        final WorkerFuture<PaymentSession> future;
+        final long started;
+
+        Prefetch(final WorkerFuture<PaymentSession> future, final long started) {
+            this.future = future;
+            this.started = started;
+        }
+
+        boolean isExpired(final long now) {
+            return now - started > MAX_AGE;
+        }
+    }
+
+    private static class InstanceHolder {
+        static final PaymentSessionPrefetcher INSTANCE = new PaymentSessionPrefetcher();
+    }
+}
@@ -9,25 +9,39 @@
 package com.payoneer.checkout.ui.session;
 
 import static com.payoneer.checkout.model.IntegrationType.MOBILE_NATIVE;
+import static com.payoneer.checkout.model.InteractionCode.PROCEED;
 import static com.payoneer.checkout.model.NetworkOperationType.CHARGE;
 import static com.payoneer.checkout.model.NetworkOperationType.PRESET;
 import static com.payoneer.checkout.model.NetworkOperationType.UPDATE;
 
+import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.payoneer.checkout.CheckoutConfiguration;
 import com.payoneer.checkout.R;
 import com.payoneer.checkout.core.PaymentException;
+import com.payoneer.checkout.core.WorkerFuture;
 import com.payoneer.checkout.core.WorkerSubscriber;
-import com.payoneer.checkout.core.WorkerTask;
 import com.payoneer.checkout.core.Workers;
+import com.payoneer.checkout.localization.CachedLocalization;
 import com.payoneer.checkout.localization.LocalLocalizationHolder;
 import com.payoneer.checkout.localization.Localization;
 import com.payoneer.checkout.localization.LocalizationCache;
+import com.payoneer.checkout.localization.LocalizationDictionary;
+import com.payoneer.checkout.localization.LocalizationDiskCache;
 import com.payoneer.checkout.localization.LocalizationHolder;
 import com.payoneer.checkout.localization.MultiLocalizationHolder;
+import com.payoneer.checkout.model.Interaction;
 import com.payoneer.checkout.model.ListResult;
 import com.payoneer.checkout.network.ListConnection;
 import com.payoneer.checkout.network.LocalizationConnection;
@@ -35,6 +49,7 @@ import com.payoneer.checkout.resource.PaymentGroup;
 import com.payoneer.checkout.resource.ResourceLoader;
 import com.payoneer.checkout.risk.RiskProviders;
 import com.payoneer.checkout.ui.model.PaymentSession;
+import com.payoneer.checkout.ui.model.PaymentSessionTimings;
 import com.payoneer.checkout.validation.Validator;
 
 import android.content.Context;
@@ -46,14 +61,33 @@ import android.util.Log;
  */
 public final class PaymentSessionService {
 
+    /**
+     * Maximum time to wait for all network localizations to be loaded
+     */
+    private final static long LOCALIZATIONS_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+    private final static String DISK_CACHE_DIR = "checkout-localizations";
+    private final static String SNAPSHOT_DIR = "checkout-session";
+
     /**
      * Memory cache of localizations
      */
     private static final LocalizationCache cache = new LocalizationCache();
+    /**
+     * Dictionary sharing the keys and values of all cached localizations
+     */
+    private static final LocalizationDictionary dictionary = new LocalizationDictionary();
+    /**
+     * Disk cache of localizations, created when the first payment session is loaded
+     */
+    private static LocalizationDiskCache diskCache;
+    /**
+     * Snapshot of the list of the last payment session, created when the first payment session is loaded
+     */
+    private static PaymentSessionSnapshot snapshot;
     private final ListConnection listConnection;
     private final LocalizationConnection locConnection;
     private PaymentSessionListener listener;
-    private WorkerTask<PaymentSession> sessionTask;
+    private WorkerFuture<PaymentSession> sessionTask;
 
     /**
      * Create a new PaymentSessionService, this service is used to load the PaymentSession.
@@ -73,11 +107,15 @@ public final class PaymentSessionService {
     }
 
     /**
-     * Notify that the processing should be stopped
+     * Notify that the processing should be stopped, the payment session being loaded is cancelled and its
+     * connections are aborted
      */
     public void stop() {
-        WorkerTask.unsubscribe(sessionTask);
-        sessionTask = null;
+        if (sessionTask != null) {
+            sessionTask.unsubscribe();
+            sessionTask.cancel(true);
+            sessionTask = null;
+        }
     }
 
     /**
@@ -86,42 +124,73 @@ public final class PaymentSessionService {
      * @return true when active, false otherwise
      */
     public boolean isActive() {
-        return WorkerTask.isSubscribed(sessionTask);
+        return sessionTask != null && sessionTask.isSubscribed();
     }
 
     /**
      * Load the PaymentSession with the given listUrl, this will load the list result, languages and validator.
+     * A PaymentSession prefetched for the same listUrl is used instead of loading it again. The listener is notified
+     * once with the PaymentSession loaded from the Payment API.
      *
      * @param configuration is the object containing URL pointing to the list on the Payment API
      * @param context Android context in which this service is used
      */
     public void loadPaymentSession(final CheckoutConfiguration configuration, final Context context) {
+        loadPaymentSession(configuration, context, false);
+    }
+
+    /**
+     * Restore the PaymentSession with the given listUrl from the snapshot of the same list, the restored PaymentSession
+     * is delivered right away and the listener is notified a second time once the list has been revalidated with
+     * the Payment API. When no snapshot is available, the PaymentSession is loaded as in loadPaymentSession.
+     * A restored PaymentSession must not be used to process payments or delete accounts.
+     *
+     * @param configuration is the object containing URL pointing to the list on the Payment API
+     * @param context Android context in which this service is used
+     */
+    public void restorePaymentSession(final CheckoutConfiguration configuration, final Context context) {
+        loadPaymentSession(configuration, context, true);
+    }
 
+    private void loadPaymentSession(final CheckoutConfiguration configuration, final Context context, final boolean restore) {
         if (sessionTask != null) {
             throw new IllegalStateException("Already loading payment session, stop first");
         }
-        sessionTask = WorkerTask.fromCallable(() -> asyncLoadPaymentSession(configuration.getListURL(), context));
-        sessionTask.subscribe(new WorkerSubscriber<PaymentSession>() {
-            @Override
-            public void onSuccess(PaymentSession paymentSession) {
-                sessionTask = null;
-
-                if (listener != null) {
-                    listener.onPaymentSessionSuccess(paymentSession);
-                }
-            }
-
-            @Override
-            public void onError(Throwable cause) {
-                Log.w("checkout-sdk", cause);
-                sessionTask = null;
+        WorkerFuture<PaymentSession> task = PaymentSessionPrefetcher.getInstance().take(configuration.getListURL());
+        if (task == null && restore) {
+            URL listURL = configuration.getListURL();
+            task = WorkerFuture.supplyAsync(() -> asyncRestorePaymentSession(listURL, context), Workers.getInstance().forNetworkTasks())
+                .thenCompose(restored -> restored != null ? WorkerFuture.completed(restored) : startPaymentSession(configuration, context));
+        } else if (task == null) {
+            task = startPaymentSession(configuration, context);
+        }
+        sessionTask = task;
+        sessionTask.subscribe(new SessionSubscriber(configuration, context, false));
+    }
 
-                if (listener != null) {
-                    listener.onPaymentSessionError(cause);
-                }
-            }
+    /**
+     * Remove the snapshot of the payment session in the background, the snapshot must be removed before an operation
+     * is posted or an account is deleted since the list of the snapshot will be outdated afterwards.
+     *
+     * @param context Android context in which this service is used
+     */
+    public static void clearPaymentSessionSnapshot(final Context context) {
+        Workers.getInstance().forNetworkTasks().execute(() -> {
+            initSnapshot(context);
+            snapshot.clear();
         });
-        Workers.getInstance().forNetworkTasks().execute(sessionTask);
+    }
+
+    /**
+     * Start loading the PaymentSession in the background
+     *
+     * @param configuration is the object containing URL pointing to the list on the Payment API
+     * @param context Android context in which this service is used
+     * @return the WorkerFuture of the PaymentSession being loaded
+     */
+    WorkerFuture<PaymentSession> startPaymentSession(final CheckoutConfiguration configuration, final Context context) {
+        return WorkerFuture.supplyAsync(() -> asyncLoadPaymentSession(configuration.getListURL(), context),
+            Workers.getInstance().forNetworkTasks());
     }
 
     /**
@@ -145,11 +214,58 @@ public final class PaymentSessionService {
     }
 
     private PaymentSession asyncLoadPaymentSession(URL listURL, Context context) throws PaymentException {
+        PaymentSessionTimings timings = new PaymentSessionTimings();
+        long start = System.nanoTime();
         listConnection.initialize(context);
         locConnection.initialize(context);
 
+        // Parse the local groups and validations while the list is being loaded from the Payment API
+        ExecutorService executor = Workers.getInstance().forNetworkTasks();
+        Future<Map<String, PaymentGroup>> groupsTask = executor.submit(() -> loadPaymentGroups(context));
+        Future<Validator> validatorTask = executor.submit(() -> loadValidator(context));
+
         ListResult listResult = listConnection.getListResult(listURL);
+        start = putTiming(timings, PaymentSessionTimings.PHASE_LIST, start);
 
+        PaymentSession session = buildPaymentSession(listResult, groupsTask, validatorTask, context, timings, start);
+
+        // A list which may proceed is stored in the snapshot so it can be restored when it is shown again
+        initSnapshot(context);
+        if (isProceed(listResult)) {
+            snapshot.save(listURL, listResult);
+        } else {
+            snapshot.clear();
+        }
+        return session;
+    }
+
+    private PaymentSession asyncRestorePaymentSession(URL listURL, Context context) {
+        initSnapshot(context);
+        ListResult listResult = snapshot.load(listURL);
+        if (listResult == null || !isProceed(listResult)) {
+            return null;
+        }
+        PaymentSessionTimings timings = new PaymentSessionTimings();
+        long start = System.nanoTime();
+        locConnection.initialize(context);
+
+        ExecutorService executor = Workers.getInstance().forNetworkTasks();
+        Future<Map<String, PaymentGroup>> groupsTask = executor.submit(() -> loadPaymentGroups(context));
+        Future<Validator> validatorTask = executor.submit(() -> loadValidator(context));
+        try {
+            PaymentSession session = buildPaymentSession(listResult, groupsTask, validatorTask, context, timings, start);
+            session.setRestored(true);
+            return session;
+        } catch (PaymentException e) {
+            // The list is loaded from the Payment API instead
+            Log.w("checkout-sdk", e);
+            snapshot.clear();
+            return null;
+        }
+    }
+
+    private PaymentSession buildPaymentSession(ListResult listResult, Future<Map<String, PaymentGroup>> groupsTask,
+        Future<Validator> validatorTask, Context context, PaymentSessionTimings timings, long start) throws PaymentException {
         String integrationType = listResult.getIntegrationType();
         if (!MOBILE_NATIVE.equals(integrationType)) {
             throw new PaymentException("Integration type is not supported: " + integrationType);
@@ -160,49 +276,188 @@ public final class PaymentSessionService {
         }
         PaymentSession session = new PaymentSessionBuilder()
             .setListResult(listResult)
-            .setPaymentGroups(loadPaymentGroups(context))
+            .setPaymentGroups(awaitResource(groupsTask))
             .build();
+        start = putTiming(timings, PaymentSessionTimings.PHASE_GROUPS, start);
+
+        // A list which may not proceed is closed right away, its localizations are never shown
+        if (!isProceed(listResult)) {
+            session.setTimings(timings);
+            return session;
+        }
+        // All language files are requested in one round trip while the risk providers are initialized
+        Map<String, Future<LocalizationHolder>> locTasks = submitLocalizations(session, context);
+        try {
+            loadRiskProviders(session, context);
+            start = putTiming(timings, PaymentSessionTimings.PHASE_RISK, start);
 
-        loadValidator(context);
-        loadLocalizations(session, context);
-        loadRiskProviders(session, context);
+            awaitResource(validatorTask);
+            start = putTiming(timings, PaymentSessionTimings.PHASE_VALIDATIONS, start);
+
+            awaitLocalizations(session, locTasks, context);
+            putTiming(timings, PaymentSessionTimings.PHASE_LOCALIZATIONS, start);
+        } finally {
+            for (Future<LocalizationHolder> task : locTasks.values()) {
+                task.cancel(true);
+            }
+        }
+        session.setTimings(timings);
         return session;
     }
 
+    private static boolean isProceed(ListResult listResult) {
+        Interaction interaction = listResult.getInteraction();
+        return interaction != null && PROCEED.equals(interaction.getCode());
+    }
+
+    private long putTiming(PaymentSessionTimings timings, String phase, long start) {
+        long now = System.nanoTime();
+        timings.putTiming(phase, TimeUnit.NANOSECONDS.toMillis(now - start));
+        return now;
+    }
+
     private Map<String, PaymentGroup> loadPaymentGroups(Context context) throws PaymentException {
         return ResourceLoader.loadPaymentGroups(context.getResources(), R.raw.groups);
     }
 
-    private void loadValidator(Context context) throws PaymentException {
-        if (Validator.getInstance() == null) {
-            Validator validator = new Validator(ResourceLoader.loadValidations(context.getResources(), R.raw.validations));
+    private Validator loadValidator(Context context) throws PaymentException {
+        Validator validator = Validator.getInstance();
+        if (validator == null) {
+            validator = new Validator(ResourceLoader.loadValidations(context.getResources(), R.raw.validations));
             Validator.setInstance(validator);
         }
+        return validator;
+    }
+
+    private <T> T awaitResource(Future<T> task) throws PaymentException {
+        // Run the task on this thread when it has not been started yet, so a busy executor never blocks the session
+        if (task instanceof RunnableFuture) {
+            ((RunnableFuture<T>) task).run();
+        }
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof PaymentException) {
+                throw (PaymentException) cause;
+            }
+            throw new PaymentException("Error while loading resource", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentException("Interrupted while loading resource", e);
+        }
+    }
+
+    private Map<String, Future<LocalizationHolder>> submitLocalizations(final PaymentSession session, final Context context) {
+        initDiskCache(context);
+
+        // Load the shared and network localizations concurrently, networks sharing the same language file
+        // share the same request
+        ExecutorService executor = Workers.getInstance().forLocalizationTasks();
+        Map<String, Future<LocalizationHolder>> tasks = new HashMap<>();
+        List<URL> urls = new ArrayList<>();
+        urls.add(session.getListLanguageLink());
+        urls.addAll(session.getLanguageLinks().values());
+
+        for (URL url : urls) {
+            String langUrl = url.toString();
+            if (!tasks.containsKey(langUrl)) {
+                tasks.put(langUrl, WorkerFuture.supplyAsync(() -> loadLocalizationHolder(url), executor));
+            }
+        }
+        return tasks;
     }
 
-    private void loadLocalizations(final PaymentSession session, final Context context) throws PaymentException {
+    private void awaitLocalizations(final PaymentSession session, final Map<String, Future<LocalizationHolder>> tasks,
+        final Context context) throws PaymentException {
+        long deadline = System.nanoTime() + LOCALIZATIONS_TIMEOUT;
         LocalizationHolder localHolder = new LocalLocalizationHolder(context);
-        LocalizationHolder sharedHolder = loadLocalizationHolder(session.getListLanguageLink(), localHolder);
+        LocalizationHolder sharedHolder = localHolder;
 
+        LocalizationHolder shared = awaitLocalizationHolder(tasks.get(session.getListLanguageLink().toString()), deadline);
+        if (shared != null) {
+            sharedHolder = new MultiLocalizationHolder(shared, localHolder);
+        }
         Map<String, LocalizationHolder> holders = new HashMap<>();
-        Map<String, URL> links = session.getLanguageLinks();
-        for (Map.Entry<String, URL> entry : links.entrySet()) {
-            holders.put(entry.getKey(), loadLocalizationHolder(entry.getValue(), sharedHolder));
+        for (Map.Entry<String, URL> entry : session.getLanguageLinks().entrySet()) {
+            LocalizationHolder network = awaitLocalizationHolder(tasks.get(entry.getValue().toString()), deadline);
+            holders.put(entry.getKey(), network != null ? new MultiLocalizationHolder(network, sharedHolder) : sharedHolder);
+        }
+        // The Localization is installed on the main UI Thread once the session is delivered to the listener
+        session.setLocalization(new Localization(sharedHolder, holders));
+    }
+
+    private LocalizationHolder awaitLocalizationHolder(Future<LocalizationHolder> task, long deadline) throws PaymentException {
+        try {
+            return task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // The localization did not arrive in time, the caller falls back to the next localization holder
+            Log.w("checkout-sdk", "Loading localization timed out, using fallback localization");
+            task.cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof PaymentException) {
+                throw (PaymentException) cause;
+            }
+            throw new PaymentException("Error while loading localization", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentException("Interrupted while loading localization", e);
+        }
+    }
+
+    private static synchronized void initSnapshot(final Context context) {
+        if (snapshot == null) {
+            File directory = new File(context.getCacheDir(), SNAPSHOT_DIR);
+            snapshot = new PaymentSessionSnapshot(directory, PaymentSessionSnapshot.DEFAULT_MAX_AGE);
         }
-        Localization.setInstance(new Localization(sharedHolder, holders));
     }
 
-    private LocalizationHolder loadLocalizationHolder(URL url, LocalizationHolder fallback) throws PaymentException {
+    private static synchronized void initDiskCache(final Context context) {
+        if (diskCache == null) {
+            File directory = new File(context.getCacheDir(), DISK_CACHE_DIR);
+            diskCache = new LocalizationDiskCache(directory, LocalizationDiskCache.DEFAULT_MAX_SIZE,
+                LocalizationDiskCache.DEFAULT_MAX_AGE);
+        }
+    }
+
+    private LocalizationHolder loadLocalizationHolder(URL url) throws PaymentException {
         String langUrl = url.toString();
         LocalizationHolder holder = cache.get(langUrl);
 
-        if (holder == null) {
-            holder = new MultiLocalizationHolder(locConnection.loadLocalization(url), fallback);
-            cache.put(langUrl, holder);
+        if (holder != null) {
+            return holder;
+        }
+        CachedLocalization cached = diskCache.get(langUrl);
+        if (cached != null) {
+            // Serve the localization from disk and revalidate it in the background for the next payment session
+            revalidateLocalization(url, cached);
+        } else {
+            cached = locConnection.loadLocalization(url, null);
+            diskCache.put(cached);
         }
+        holder = cached.toLocalizationHolder(dictionary);
+        cache.put(langUrl, holder);
         return holder;
     }
 
+    private void revalidateLocalization(final URL url, final CachedLocalization cached) {
+        Workers.getInstance().forNetworkTasks().execute(() -> {
+            try {
+                CachedLocalization latest = locConnection.loadLocalization(url, cached.hasValidators() ? cached : null);
+                if (latest == cached) {
+                    diskCache.touch(cached.getUrl());
+                    return;
+                }
+                diskCache.put(latest);
+                cache.put(url.toString(), latest.toLocalizationHolder(dictionary));
+            } catch (PaymentException e) {
+                Log.w("checkout-sdk", e);
+            }
+        });
+    }
+
     private void loadRiskProviders(final PaymentSession session, final Context context) {
         String listUrl = session.getListSelfUrl();
         RiskProviders riskProviders = RiskProviders.getInstance();
@@ -214,4 +469,51 @@ public final class PaymentSessionService {
         riskProviders.initializeRiskProviders(session.getRiskProviders(), context);
         RiskProviders.setInstance(riskProviders);
     }
+
+    /**
+     * Subscriber notifying the listener about the PaymentSession being loaded, a restored PaymentSession is
+     * revalidated with the Payment API once it has been delivered.
+     */
+    private class SessionSubscriber implements WorkerSubscriber<PaymentSession> {
+
+        private final CheckoutConfiguration configuration;
+        private final Context context;
+        private final boolean revalidation;
+
+        SessionSubscriber(final CheckoutConfiguration configuration, final Context context, final boolean revalidation) {
+            this.configuration = configuration;
+            this.context = context;
+            this.revalidation = revalidation;
+        }
+
+        @Override
+        public void onSuccess(PaymentSession paymentSession) {
+            sessionTask = null;
+            paymentSession.setRevalidated(revalidation);
+            // Sessions are loaded or prefetched in the background, their Localization is only installed once delivered
+            if (paymentSession.getLocalization() != null) {
+                Localization.setInstance(paymentSession.getLocalization());
+            }
+            if (listener != null) {
+                listener.onPaymentSessionSuccess(paymentSession);
+            }
+            if (paymentSession.isRestored() && sessionTask == null) {
+                sessionTask = startPaymentSession(configuration, context);
+                sessionTask.subscribe(new SessionSubscriber(configuration, context, true));
+            }
+        }
+
+        @Override
+        public void onError(Throwable cause) {
+            Log.w("checkout-sdk", cause);
+            sessionTask = null;
+            // The restored session stays visible when it could not be revalidated because of a network failure
+            if (revalidation && cause instanceof PaymentException && ((PaymentException) cause).getNetworkFailure()) {
+                return;
+            }
+            if (listener != null) {
+                listener.onPaymentSessionError(cause);
+            }
+        }
+    }
 }
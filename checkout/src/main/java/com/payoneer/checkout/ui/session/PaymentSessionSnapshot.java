@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.session;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.payoneer.checkout.model.ListResult;
+
+import android.util.Log;
+
+/**
+ * Class storing a snapshot of the ListResult of the current payment session on disk, so the payment session can be
+ * restored right away after a cold start or process death and revalidated with the Payment API in the background.
+ * Only one snapshot is stored, it is written in a versioned binary file containing the list URL, the time the snapshot
+ * was taken and the parts of the ListResult needed to show the payment methods again. The payment, products and style
+ * are not part of the snapshot, neither are the localizations since they are restored from the localization disk cache.
+ */
+final class PaymentSessionSnapshot {
+
+    final static long DEFAULT_MAX_AGE = TimeUnit.MINUTES.toMillis(30);
+
+    private final static int MAGIC = 0x50534E50;
+    private final static int VERSION = 2;
+    private final static String FILE_NAME = "session.snapshot";
+    private final static String TEMP_SUFFIX = ".tmp";
+
+    private final Gson gson = new GsonBuilder().create();
+    private final File directory;
+    private final long maxAge;
+
+    /**
+     * Construct a new PaymentSessionSnapshot storing the snapshot in the given directory
+     *
+     * @param directory in which the snapshot is stored, it is created if it does not exist
+     * @param maxAge maximum age in milliseconds of the snapshot
+     */
+    PaymentSessionSnapshot(final File directory, final long maxAge) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory cannot be null");
+        }
+        this.directory = directory;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Save the snapshot of the ListResult, a previously saved snapshot is replaced. Only the parts of the ListResult
+     * needed to restore the payment methods are written to disk.
+     *
+     * @param listURL pointing to the list
+     * @param listResult the ListResult loaded from the list URL
+     */
+    synchronized void save(final URL listURL, final ListResult listResult) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.w("checkout-sdk", "Could not create payment session snapshot directory");
+            return;
+        }
+        File file = new File(directory, FILE_NAME);
+        File tempFile = new File(directory, FILE_NAME + TEMP_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            byte[] json = gson.toJson(createSnapshot(listResult)).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeUTF(listURL.toString());
+            out.writeInt(json.length);
+            out.write(json);
+        } catch (IOException | JsonParseException e) {
+            Log.w("checkout-sdk", e);
+            deleteFile(tempFile);
+            return;
+        }
+        if (!tempFile.renameTo(file)) {
+            deleteFile(tempFile);
+        }
+    }
+
+    /**
+     * Load the snapshot of the ListResult of the list
+     *
+     * @param listURL pointing to the list
+     * @return the ListResult or null if there is no snapshot of the list, the snapshot is expired or could not be read
+     */
+    synchronized ListResult load(final URL listURL) {
+        File file = new File(directory, FILE_NAME);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                deleteFile(file);
+                return null;
+            }
+            long age = System.currentTimeMillis() - in.readLong();
+            if (age < 0 || age > maxAge) {
+                deleteFile(file);
+                return null;
+            }
+            if (!listURL.toString().equals(in.readUTF())) {
+                return null;
+            }
+            byte[] json = new byte[in.readInt()];
+            in.readFully(json);
+            return gson.fromJson(new String(json, StandardCharsets.UTF_8), ListResult.class);
+        } catch (IOException | JsonParseException | NegativeArraySizeException e) {
+            Log.w("checkout-sdk", e);
+        }
+        deleteFile(file);
+        return null;
+    }
+
+    /**
+     * Remove the snapshot, i.e. when the list of the snapshot may not proceed anymore or an operation has been started
+     */
+    synchronized void clear() {
+        deleteFile(new File(directory, FILE_NAME));
+    }
+
+    private static ListResult createSnapshot(final ListResult listResult) {
+        ListResult snapshot = new ListResult();
+        snapshot.setLinks(listResult.getLinks());
+        snapshot.setInteraction(listResult.getInteraction());
+        snapshot.setAccounts(listResult.getAccounts());
+        snapshot.setNetworks(listResult.getNetworks());
+        snapshot.setExtraElements(listResult.getExtraElements());
+        snapshot.setPresetAccount(listResult.getPresetAccount());
+        snapshot.setOperationType(listResult.getOperationType());
+        snapshot.setAllowDelete(listResult.getAllowDelete());
+        snapshot.setIntegrationType(listResult.getIntegrationType());
+        snapshot.setRiskProviders(listResult.getRiskProviders());
+        return snapshot;
+    }
+
+    private void deleteFile(final File file) {
+        if (file.exists() && !file.delete()) {
+            Log.w("checkout-sdk", "Could not delete payment session snapshot: " + file.getName());
+        }
+    }
+}
@@ -30,6 +30,7 @@ public abstract class FormWidget {
     View widgetView;
 
     WidgetPresenter presenter;
+    WidgetViewPool viewPool;
     int state;
 
     /**
@@ -75,6 +76,16 @@ public abstract class FormWidget {
         this.presenter = presenter;
     }
 
+    /**
+     * Set the pool from which this widget takes its pre-inflated widgetView, the layout is inflated on the main
+     * thread when no pool is set.
+     *
+     * @param viewPool to be used by this widget
+     */
+    public final void setViewPool(WidgetViewPool viewPool) {
+        this.viewPool = viewPool;
+    }
+
     /**
      * Get the widgetView of this Widget
      *
@@ -139,6 +150,13 @@ public abstract class FormWidget {
         return false;
     }
 
+    /**
+     * Notify the presenter about the current input value of this widget, i.e. after the state of the widget
+     * has been restored while the input events were ignored.
+     */
+    public void notifyInputValue() {
+    }
+
     /**
      * Set the validation in this widget given the current input value.
      */
@@ -168,6 +186,13 @@ public abstract class FormWidget {
     public void putValue(PaymentInputValues inputValues) {
     }
 
+    /**
+     * Release the resources held by this widget, i.e. loaded images. Called when the view holding this widget
+     * is recycled or removed, the widget is bound again before it is shown.
+     */
+    public void release() {
+    }
+
     /**
      * Request the widget to validate itself given the current input value.
      *
@@ -185,8 +210,12 @@ public abstract class FormWidget {
      * @param layoutResId the resource id of the layout that should be inflated
      */
     final void inflateWidgetView(ViewGroup parent, int layoutResId) {
-        LayoutInflater inflater = LayoutInflater.from(parent.getContext());
-        widgetView = inflater.inflate(layoutResId, parent, false);
+        if (viewPool != null) {
+            widgetView = viewPool.inflate(parent, layoutResId);
+        } else {
+            LayoutInflater inflater = LayoutInflater.from(parent.getContext());
+            widgetView = inflater.inflate(layoutResId, parent, false);
+        }
         PaymentUtils.setTestId(widgetView, "widget", getKey());
     }
 
@@ -98,6 +98,13 @@ public abstract class InputLayoutWidget extends FormWidget {
         return !(TextUtils.isEmpty(textInput.getText()));
     }
 
+    @Override
+    public void notifyInputValue() {
+        if (!TextUtils.isEmpty(getValue())) {
+            onTextInputChanged();
+        }
+    }
+
     @Override
     public boolean setLastImeOptionsWidget() {
         textInput.setImeOptions(EditorInfo.IME_ACTION_DONE);
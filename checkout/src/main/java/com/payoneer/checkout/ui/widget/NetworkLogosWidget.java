@@ -59,7 +59,19 @@ public final class NetworkLogosWidget extends FormWidget {
         return widgetView;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release() {
+        NetworkLogoLoader.clearNetworkLogo(selImage);
+        for (NetworkLogo logo : logos.values()) {
+            NetworkLogoLoader.clearNetworkLogo(logo.image);
+        }
+    }
+
     public void onBind(List<PaymentNetwork> networks) {
+        release();
         logos.clear();
         layout.removeAllViews();
 
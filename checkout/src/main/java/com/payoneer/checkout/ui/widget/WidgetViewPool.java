@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.widget;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import com.payoneer.checkout.R;
+import com.payoneer.checkout.core.WorkerHistogram;
+
+import android.content.Context;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.LinearLayout;
+import androidx.asynclayoutinflater.view.AsyncLayoutInflater;
+
+/**
+ * Pool of widget views that are inflated in a background thread before they are needed. Widgets take their
+ * views from this pool when they inflate and fall back to inflating on the main thread when the pool is empty.
+ * The pool is refilled up to the preferred number of views of each layout after a view has been taken.
+ * The time spent inflating on the main thread is recorded, this is the frame time the pool did not save.
+ * All methods must be called from the main UI Thread.
+ */
+public final class WidgetViewPool {
+
+    /**
+     * The AsyncLayoutInflater blocks the main thread when more than ten inflation requests are queued
+     */
+    private final static int MAX_PENDING = 8;
+
+    private final Context context;
+    private final ViewGroup inflateParent;
+    private final SparseArray<ArrayDeque<View>> views;
+    private final SparseIntArray preferredCounts;
+    private final SparseIntArray pendingCounts;
+    private final WorkerHistogram missInflateTime = new WorkerHistogram();
+    private AsyncLayoutInflater asyncInflater;
+    private int pending;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Construct a new WidgetViewPool inflating views with the given context
+     *
+     * @param context the themed context of the views in which the widgets are shown
+     */
+    public WidgetViewPool(Context context) {
+        this.context = context;
+        // Form layouts are LinearLayouts, the layout params of pooled views are generated by this parent
+        this.inflateParent = new LinearLayout(context);
+        this.views = new SparseArray<>();
+        this.preferredCounts = new SparseIntArray();
+        this.pendingCounts = new SparseIntArray();
+    }
+
+    /**
+     * Pre-inflate the layouts of the widgets commonly used in payment card forms
+     */
+    public void preinflateFormWidgets() {
+        preinflate(R.layout.widget_textinput, 4);
+        preinflate(R.layout.layout_widget_row, 1);
+        preinflate(R.layout.widget_checkbox, 1);
+        preinflate(R.layout.widget_button, 1);
+        preinflate(R.layout.widget_networklogos, 1);
+    }
+
+    /**
+     * Pre-inflate views of the layout in a background thread until the pool contains the preferred number of views
+     *
+     * @param layoutResId resource id of the layout
+     * @param preferredCount number of views of this layout that should be available in the pool
+     */
+    public void preinflate(int layoutResId, int preferredCount) {
+        preferredCounts.put(layoutResId, preferredCount);
+        refill(layoutResId);
+    }
+
+    /**
+     * Inflate the layout, a pre-inflated view is used when available
+     *
+     * @param parent the parent in which the view will be added
+     * @param layoutResId resource id of the layout
+     * @return the inflated view
+     */
+    public View inflate(ViewGroup parent, int layoutResId) {
+        ArrayDeque<View> pooled = views.get(layoutResId);
+        if (pooled != null && !pooled.isEmpty() && parent.getContext() == context) {
+            hitCount++;
+            View view = pooled.poll();
+            refill(layoutResId);
+            return view;
+        }
+        missCount++;
+        long start = System.nanoTime();
+        View view = LayoutInflater.from(parent.getContext()).inflate(layoutResId, parent, false);
+        missInflateTime.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return view;
+    }
+
+    /**
+     * Remove all pre-inflated views from this pool, views that are still being inflated are discarded
+     * and the pool is not refilled until preinflate is called again.
+     */
+    public void clear() {
+        views.clear();
+        preferredCounts.clear();
+    }
+
+    /**
+     * Get the number of inflations served by a pre-inflated view
+     *
+     * @return number of inflations served from this pool
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the number of inflations that had to inflate on the main thread
+     *
+     * @return number of inflations not served from this pool
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get the durations of the inflations that had to inflate on the main thread
+     *
+     * @return histogram of the main thread inflation times in milliseconds
+     */
+    public WorkerHistogram getMissInflateTime() {
+        return missInflateTime;
+    }
+
+    private void refill(int layoutResId) {
+        int missing = preferredCounts.get(layoutResId) - getPooledCount(layoutResId) - pendingCounts.get(layoutResId);
+        for (int i = 0; i < missing && pending < MAX_PENDING; i++) {
+            inflateAsync(layoutResId);
+        }
+    }
+
+    private void inflateAsync(int layoutResId) {
+        if (asyncInflater == null) {
+            asyncInflater = new AsyncLayoutInflater(context);
+        }
+        pending++;
+        pendingCounts.put(layoutResId, pendingCounts.get(layoutResId) + 1);
+        asyncInflater.inflate(layoutResId, inflateParent, (view, resId, parent) -> onInflated(view, resId));
+    }
+
+    private void onInflated(View view, int layoutResId) {
+        pending--;
+        pendingCounts.put(layoutResId, pendingCounts.get(layoutResId) - 1);
+        if (getPooledCount(layoutResId) >= preferredCounts.get(layoutResId)) {
+            return;
+        }
+        ArrayDeque<View> pooled = views.get(layoutResId);
+        if (pooled == null) {
+            pooled = new ArrayDeque<>();
+            views.put(layoutResId, pooled);
+        }
+        pooled.add(view);
+    }
+
+    private int getPooledCount(int layoutResId) {
+        ArrayDeque<View> pooled = views.get(layoutResId);
+        return pooled != null ? pooled.size() : 0;
+    }
+}
@@ -8,23 +8,22 @@
 
 package com.payoneer.checkout.ui.widget.input;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import android.text.Editable;
 import android.widget.EditText;
 
 /**
- * Class for separating 4 digits with a space
+ * Class for separating groups of characters with a space, i.e. "1234 5678 9" for a group size of 4.
+ * The input is corrected in a single pass over the previous and changed text using reusable buffers,
+ * no Strings are created while the user is typing.
  */
 public class GroupingTextWatcher extends EditTextWatcher {
 
     private static final char DIVIDER = ' ';
-    private static final String STRING_DIVIDER = " ";
 
     private final int groupSize;
     private final int dividerModulo;
-    private final Pattern inputPattern;
+    private final StringBuilder previousChars;
+    private final StringBuilder correctedChars;
 
     /**
      * Construct a new GroupingTextWatcher for the given editText
@@ -40,67 +39,115 @@ public class GroupingTextWatcher extends EditTextWatcher {
         }
         this.groupSize = groupSize;
         this.dividerModulo = groupSize + 1;
-        String inputRegex = "(\\w{" + groupSize + "}" + DIVIDER + ")*\\w{1," + groupSize + "}";
-        this.inputPattern = Pattern.compile(inputRegex);
+        this.previousChars = new StringBuilder();
+        this.correctedChars = new StringBuilder();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void validate(final Editable s) {
-        String afterText = s.toString();
-
-        if (!previousText.equals(afterText) && !isInputCorrect(afterText)) {
-            String newString = previousText.substring(0, start);
-            int cursor = start;
-
-            if (deleteLength > 0 && s.length() > 0 && (previousText.charAt(start) == DIVIDER || start == s.length())) {
-                newString = previousText.substring(0, start - 1);
-                --cursor;
-            }
+    public void beforeTextChanged(final CharSequence s, final int start, final int count, final int after) {
+        previousChars.setLength(0);
+        previousChars.append(s);
+        this.start = start;
+        this.deleteLength = count;
+        this.insertLength = after;
+    }
 
-            if (insertLength > 0) {
-                newString += afterText.substring(start, start + insertLength);
-                newString = buildCorrectInput(newString);
-                cursor = newString.length();
-            }
-            newString += previousText.substring(start + deleteLength);
-            s.replace(0, s.length(), buildCorrectInput(newString));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final Editable s) {
+        if (contentEquals(previousChars, s) || isInputCorrect(s)) {
+            return;
+        }
+        int prefixEnd = start;
+        int cursor = start;
+
+        // Deleting a divider or the last character also removes the character in front of it
+        if (deleteLength > 0 && s.length() > 0 && start > 0
+            && (previousChars.charAt(start) == DIVIDER || start == s.length())) {
+            prefixEnd = start - 1;
+            cursor = prefixEnd;
+        }
+        StringBuilder sb = correctedChars;
+        sb.setLength(0);
+        appendGrouped(sb, previousChars, 0, prefixEnd);
 
-            setCursor(cursor);
+        if (insertLength > 0) {
+            appendGrouped(sb, s, start, start + insertLength);
+            cursor = sb.length();
         }
+        appendGrouped(sb, previousChars, start + deleteLength, previousChars.length());
+        s.replace(0, s.length(), sb);
+
+        setCursor(cursor);
     }
 
     /**
-     * Check if String has the white spaces in the correct positions, meaning
-     * if we have the String "123456789" and there should exist a white space
-     * every 4 characters then the correct String should be "1234 5678 9".
+     * Check if the input has the white spaces in the correct positions, meaning
+     * if we have the input "123456789" and there should exist a white space
+     * every 4 characters then the correct input should be "1234 5678 9".
      *
-     * @param input String to be evaluated
-     * @return true if string input is written correctly
+     * @param input to be evaluated
+     * @return true if the input is written correctly
      */
-    private boolean isInputCorrect(final String input) {
-        Matcher matcherDot = inputPattern.matcher(input);
-        return matcherDot.matches();
+    private boolean isInputCorrect(final CharSequence input) {
+        int length = input.length();
+        if (length == 0 || length % dividerModulo == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            boolean correct = (i % dividerModulo == groupSize) ? c == DIVIDER : isWordCharacter(c);
+            if (!correct) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Puts the white spaces in the correct positions,
-     * see the example in {@link GroupingTextWatcher#isInputCorrect(String)}
-     * to understand the correct positions.
+     * Append the characters of the source to the grouped characters in the StringBuilder, existing white
+     * spaces in the source are skipped and a white space is added in front of every new group.
      *
-     * @param input String to be corrected.
-     * @return String corrected.
+     * @param sb containing the grouped characters
+     * @param source containing the characters to be appended
+     * @param start index of the first character in the source
+     * @param end index after the last character in the source
      */
-    private String buildCorrectInput(final String input) {
-        StringBuilder sbs = new StringBuilder(
-            input.replaceAll(STRING_DIVIDER, ""));
+    private void appendGrouped(final StringBuilder sb, final CharSequence source, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == DIVIDER) {
+                continue;
+            }
+            if (sb.length() % dividerModulo == groupSize) {
+                sb.append(DIVIDER);
+            }
+            sb.append(c);
+        }
+    }
 
-        // Insert the divider in the correct positions
-        for (int i = groupSize; i < sbs.length(); i += dividerModulo) {
-            sbs.insert(i, DIVIDER);
+    private static boolean contentEquals(final CharSequence a, final CharSequence b) {
+        int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                return false;
+            }
         }
-        return sbs.toString();
+        return true;
+    }
+
+    /**
+     * Same characters as matched by the regular expression \w, only ASCII letters, digits and underscore
+     */
+    private static boolean isWordCharacter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 }
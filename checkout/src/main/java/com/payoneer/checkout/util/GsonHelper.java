@@ -8,10 +8,12 @@
 
 package com.payoneer.checkout.util;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 
 import android.text.TextUtils;
@@ -53,6 +55,10 @@ public final class GsonHelper {
         return TextUtils.isEmpty(json) ? null : gson.fromJson(json, type);
     }
 
+    public <T> T fromJson(Reader reader, Type type) throws JsonIOException, JsonSyntaxException {
+        return gson.fromJson(reader, type);
+    }
+
     private static class InstanceHolder {
         static final GsonHelper INSTANCE = new GsonHelper();
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import android.graphics.Bitmap;
+
+/**
+ * Pool of mutable Bitmaps that are no longer displayed, a pooled Bitmap is reused when decoding a logo
+ * with BitmapFactory.Options.inBitmap. The pool is bounded by the allocated bytes of its Bitmaps and
+ * discards the least recently added Bitmaps first. This class is thread safe.
+ */
+final class LogoBitmapPool {
+
+    private final ArrayDeque<Bitmap> bitmaps = new ArrayDeque<>();
+    private final long maxSize;
+    private long size;
+
+    /**
+     * Construct a new LogoBitmapPool
+     *
+     * @param maxSize maximum number of allocated bytes of all pooled Bitmaps
+     */
+    LogoBitmapPool(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Put the Bitmap in this pool, Bitmaps that cannot be reused are ignored
+     *
+     * @param bitmap to be reused
+     */
+    synchronized void put(final Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled() || !bitmap.isMutable() || bitmap.getAllocationByteCount() > maxSize) {
+            return;
+        }
+        bitmaps.addLast(bitmap);
+        size += bitmap.getAllocationByteCount();
+        while (size > maxSize) {
+            size -= bitmaps.removeFirst().getAllocationByteCount();
+        }
+    }
+
+    /**
+     * Take a Bitmap from this pool that is large enough to hold the decoded image
+     *
+     * @param byteCount the number of bytes required for the decoded image
+     * @param config the config of the decoded image
+     * @return the Bitmap or null if none is available
+     */
+    synchronized Bitmap get(final int byteCount, final Bitmap.Config config) {
+        Iterator<Bitmap> iterator = bitmaps.iterator();
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+            if (bitmap.getConfig() == config && bitmap.getAllocationByteCount() >= byteCount) {
+                iterator.remove();
+                size -= bitmap.getAllocationByteCount();
+                return bitmap;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of allocated bytes of all pooled Bitmaps
+     *
+     * @return the size in bytes
+     */
+    synchronized long size() {
+        return size;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+/**
+ * Class for decoding logo images at the size in which they are displayed. The bounds of the image are read
+ * first to determine the sample size, opaque JPEG images are decoded with the RGB_565 config and Bitmaps
+ * from the LogoBitmapPool are reused when possible.
+ */
+final class LogoDecoder {
+
+    private final static String MIME_TYPE_JPEG = "image/jpeg";
+
+    private final LogoBitmapPool pool;
+
+    /**
+     * Construct a new LogoDecoder
+     *
+     * @param pool from which Bitmaps are reused
+     */
+    LogoDecoder(final LogoBitmapPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Decode the image data into a Bitmap that is not larger than necessary to fill the requested size
+     *
+     * @param data the encoded image data
+     * @param reqWidth the width in pixels in which the image is displayed, 0 if unknown
+     * @param reqHeight the height in pixels in which the image is displayed, 0 if unknown
+     * @return the decoded Bitmap or null if the data could not be decoded
+     */
+    Bitmap decode(final byte[] data, final int reqWidth, final int reqHeight) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(data, 0, data.length, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+        int sampleSize = calculateInSampleSize(options.outWidth, options.outHeight, reqWidth, reqHeight);
+        Bitmap.Config config = MIME_TYPE_JPEG.equals(options.outMimeType) ? Bitmap.Config.RGB_565 : Bitmap.Config.ARGB_8888;
+        int width = (options.outWidth + sampleSize - 1) / sampleSize;
+        int height = (options.outHeight + sampleSize - 1) / sampleSize;
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        options.inPreferredConfig = config;
+        options.inMutable = true;
+        options.inBitmap = pool.get(width * height * getBytesPerPixel(config), config);
+        try {
+            return BitmapFactory.decodeByteArray(data, 0, data.length, options);
+        } catch (IllegalArgumentException e) {
+            // The pooled Bitmap could not be reused for this image
+            Log.w("checkout-sdk", e);
+            options.inBitmap = null;
+            return BitmapFactory.decodeByteArray(data, 0, data.length, options);
+        }
+    }
+
+    /**
+     * Calculate the largest power of two sample size that keeps the decoded image at least as large as the requested size
+     *
+     * @param width of the encoded image
+     * @param height of the encoded image
+     * @param reqWidth the requested width, 0 if unknown
+     * @param reqHeight the requested height, 0 if unknown
+     * @return the sample size
+     */
+    static int calculateInSampleSize(final int width, final int height, final int reqWidth, final int reqHeight) {
+        int sampleSize = 1;
+        if (reqWidth <= 0 || reqHeight <= 0) {
+            return sampleSize;
+        }
+        while ((width / (sampleSize * 2)) >= reqWidth && (height / (sampleSize * 2)) >= reqHeight) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    private static int getBytesPerPixel(final Bitmap.Config config) {
+        return config == Bitmap.Config.RGB_565 ? 2 : 4;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import android.util.Log;
+
+/**
+ * Class for caching downloaded network logo images on disk so they do not have to be downloaded again
+ * in the next payment session. Cache files are evicted when they are older than the maximum age or when
+ * the total size of the cache exceeds the maximum size, the least recently written files are evicted first.
+ */
+public final class LogoDiskCache {
+
+    public final static long DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+    public final static long DEFAULT_MAX_AGE = TimeUnit.DAYS.toMillis(30);
+
+    private final static String FILE_SUFFIX = ".img";
+    private final static String TEMP_SUFFIX = ".tmp";
+
+    private final File directory;
+    private final long maxSize;
+    private final long maxAge;
+
+    /**
+     * Construct a new LogoDiskCache storing cache files in the given directory
+     *
+     * @param directory in which the cache files are stored, it is created if it does not exist
+     * @param maxSize maximum size in bytes of all cache files
+     * @param maxAge maximum age in milliseconds of a cache file
+     */
+    public LogoDiskCache(final File directory, final long maxSize, final long maxAge) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory cannot be null");
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Get the image data for the given logo url
+     *
+     * @param url pointing to the logo image
+     * @return the image data or null if not found or expired
+     */
+    public synchronized byte[] get(final String url) {
+        File file = getCacheFile(url);
+        if (!file.exists()) {
+            return null;
+        }
+        if (isExpired(file, System.currentTimeMillis())) {
+            deleteFile(file);
+            return null;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) file.length());
+            byte[] buf = new byte[4096];
+            int read;
+            while ((read = in.read(buf)) != -1) {
+                out.write(buf, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            Log.w("checkout-sdk", e);
+        }
+        deleteFile(file);
+        return null;
+    }
+
+    /**
+     * Put the image data in this disk cache, an existing cache file for the same url is replaced.
+     *
+     * @param url pointing to the logo image
+     * @param data the image data to be stored
+     */
+    public synchronized void put(final String url, final byte[] data) {
+        if (url == null || data == null) {
+            return;
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.w("checkout-sdk", "Could not create logo cache directory");
+            return;
+        }
+        File file = getCacheFile(url);
+        File tempFile = new File(directory, file.getName() + TEMP_SUFFIX);
+        try (OutputStream out = new FileOutputStream(tempFile)) {
+            out.write(data);
+        } catch (IOException e) {
+            Log.w("checkout-sdk", e);
+            deleteFile(tempFile);
+            return;
+        }
+        if (!tempFile.renameTo(file)) {
+            deleteFile(tempFile);
+            return;
+        }
+        trim();
+    }
+
+    /**
+     * Remove all cache files from this disk cache
+     */
+    public synchronized void clear() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFile(file);
+            }
+        }
+    }
+
+    /**
+     * Get the total size in bytes of all cache files
+     *
+     * @return total size in bytes
+     */
+    public synchronized long size() {
+        long size = 0;
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                size += file.length();
+            }
+        }
+        return size;
+    }
+
+    private void trim() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        // Sort from most to least recently written so the oldest files are evicted first
+        Arrays.sort(files, (lhs, rhs) -> Long.compare(rhs.lastModified(), lhs.lastModified()));
+        long now = System.currentTimeMillis();
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+            if (size > maxSize || isExpired(file, now)) {
+                deleteFile(file);
+            }
+        }
+    }
+
+    private boolean isExpired(final File file, final long now) {
+        return now - file.lastModified() > maxAge;
+    }
+
+    private File getCacheFile(final String url) {
+        return new File(directory, PaymentUtils.toSha256Hex(url) + FILE_SUFFIX);
+    }
+
+    private void deleteFile(final File file) {
+        if (file.exists() && !file.delete()) {
+            Log.w("checkout-sdk", "Could not delete logo cache file: " + file.getName());
+        }
+    }
+}
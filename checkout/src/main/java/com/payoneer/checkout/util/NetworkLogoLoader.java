@@ -8,11 +8,22 @@
 
 package com.payoneer.checkout.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.payoneer.checkout.R;
 import com.payoneer.checkout.core.PaymentException;
@@ -24,26 +35,77 @@ import com.payoneer.checkout.network.ImageConnection;
 import android.content.Context;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.util.Log;
+import android.util.LruCache;
+import android.view.View;
 import android.widget.ImageView;
 
 /**
  * Class for loading network logo images into an ImageView.
  * This loader will first check if a locally stored logo image is available, if not, the loader will
  * download the logo using the provided URL.
+ * <p>
+ * Decoded logos are kept in a memory cache bounded by the byte count of the Bitmaps and downloaded logos
+ * are stored in a disk cache. Concurrent requests for the same logo share the same decoding or download.
+ * <p>
+ * Logos are decoded at the size of the ImageView in which they are displayed. The loader counts the references
+ * to each decoded Bitmap, i.e. the ImageViews showing it and the pending deliveries to ImageViews. A Bitmap
+ * removed from the memory cache without references is pooled and reused for decoding the next logo.
+ * <p>
+ * Every ImageView has at most one pending load. Loading a new logo into a recycled ImageView, or detaching the
+ * ImageView from its window, cancels the pending load so a stale logo is never shown in the ImageView.
+ * A load cancelled by detaching is started again when the ImageView is attached to its window, a load discarded
+ * from the full image queue is started again right away when the ImageView is still attached.
+ * ImageViews that are recycled or removed must be cleared with clearNetworkLogo, this releases the reference to
+ * the shown Bitmap so it can be reused once it has been removed from the memory cache.
  */
 public final class NetworkLogoLoader {
 
     private final static String NETWORKLOGO_FOLDER = "networklogos/";
-    private final Map<String, String> localNetworkLogos = new HashMap<>();
+    private final static String DISK_CACHE_DIR = "checkout-logos";
+    private final static int MAX_MEMORY_CACHE_SIZE = 4 * 1024 * 1024;
+    private final static int MAX_POOL_SIZE = 512 * 1024;
+
+    // Published once it has been fully built, it is read from the main thread and the network threads
+    private volatile Map<String, String> localNetworkLogos;
     private final ImageConnection imageConnection = new ImageConnection();
+    final LruCache<String, Bitmap> memoryCache;
+    final LogoBitmapPool bitmapPool = new LogoBitmapPool(MAX_POOL_SIZE);
+    private final LogoDecoder decoder = new LogoDecoder(bitmapPool);
+
+    // The references, removedFromCache and loads maps are guarded by the references map
+    private final Map<Bitmap, Integer> references = new IdentityHashMap<>();
+    private final Map<Bitmap, Boolean> removedFromCache = new IdentityHashMap<>();
+    private final Map<String, LogoLoad> loads = new HashMap<>();
+
+    // Bitmaps currently shown in ImageViews, the requested logos and pending loads of ImageViews, only accessed from the main thread
+    private final Map<ImageView, Bitmap> viewBitmaps = new WeakHashMap<>();
+    private final Map<ImageView, LogoRequest> viewRequests = new WeakHashMap<>();
+    private final Map<ImageView, ViewLoad> pendingLoads = new WeakHashMap<>();
+    private final Map<ImageView, Boolean> attachListeners = new WeakHashMap<>();
+
+    private final AtomicInteger diskHitCount = new AtomicInteger();
+    private final AtomicInteger diskMissCount = new AtomicInteger();
+    private LogoDiskCache diskCache;
 
     /*
-     * This is private because this class should never have an object created. The loading functionality
-     * will be accessed statically
+     * The loading functionality will be accessed statically, this is package private for testing only
      */
-    private NetworkLogoLoader() {
+    NetworkLogoLoader() {
+        int maxSize = (int) Math.min(MAX_MEMORY_CACHE_SIZE, Runtime.getRuntime().maxMemory() / 16);
+        memoryCache = new LruCache<String, Bitmap>(maxSize) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return bitmap.getByteCount();
+            }
+
+            @Override
+            protected void entryRemoved(boolean evicted, String key, Bitmap oldValue, Bitmap newValue) {
+                if (oldValue != newValue) {
+                    onRemovedFromCache(oldValue);
+                }
+            }
+        };
     }
 
     /**
@@ -66,68 +128,466 @@ public final class NetworkLogoLoader {
         getInstance().loadImageIntoView(view, networkCode, networkLogoUrl);
     }
 
-    private void loadImageIntoView(ImageView view, String networkCode, URL networkLogoUrl) {
+    /**
+     * Clear the network logo shown in the ImageView, i.e. when the ImageView is recycled or removed.
+     * The pending load of the ImageView is cancelled and the reference to the shown Bitmap is released.
+     *
+     * @param view ImageView to be cleared
+     */
+    public static void clearNetworkLogo(ImageView view) {
+        getInstance().clearImage(view);
+    }
+
+    /**
+     * Download the remote network logos into the disk cache so they are available when they are shown.
+     * Logos stored locally or already found in the disk cache are skipped.
+     *
+     * @param context used to locate the local logos and the disk cache
+     * @param networkLogos the logo URLs mapped by network code
+     */
+    public void prefetchNetworkLogos(Context context, Map<String, URL> networkLogos) {
+        Map<String, String> localLogos = getLocalNetworkLogos(context);
+        initDiskCache(context);
+        for (Map.Entry<String, URL> entry : networkLogos.entrySet()) {
+            if (localLogos.containsKey(entry.getKey())) {
+                continue;
+            }
+            URL url = entry.getValue();
+            Workers.getInstance().forPrefetchTasks().execute(() -> {
+                try {
+                    if (diskCache.get(url.toString()) == null) {
+                        diskCache.put(url.toString(), imageConnection.loadImageData(url));
+                    }
+                } catch (PaymentException e) {
+                    Log.w("checkout-sdk", e);
+                    // we ignore prefetch failures, the logo is loaded again when it is shown
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the number of logos found in the memory cache
+     *
+     * @return the number of memory cache hits
+     */
+    public int getMemoryHitCount() {
+        return memoryCache.hitCount();
+    }
+
+    /**
+     * Get the number of logos not found in the memory cache
+     *
+     * @return the number of memory cache misses
+     */
+    public int getMemoryMissCount() {
+        return memoryCache.missCount();
+    }
+
+    /**
+     * Get the number of remote logos loaded from the disk cache
+     *
+     * @return the number of disk cache hits
+     */
+    public int getDiskHitCount() {
+        return diskHitCount.get();
+    }
+
+    /**
+     * Get the number of remote logos that had to be downloaded
+     *
+     * @return the number of disk cache misses
+     */
+    public int getDiskMissCount() {
+        return diskMissCount.get();
+    }
+
+    /**
+     * Remove all logos from the memory cache, i.e. when the system is running low on memory
+     */
+    public void clearMemoryCache() {
+        memoryCache.evictAll();
+    }
+
+    void loadImageIntoView(ImageView view, String networkCode, URL networkLogoUrl) {
         final Context context = view.getContext();
-        if (localNetworkLogos.size() == 0) {
-            loadLocalNetworkLogos(view.getContext());
+        cancelPendingLoad(view);
+        final String fileName = getLocalNetworkLogos(context).get(networkCode);
+        if (fileName == null && networkLogoUrl == null) {
+            Log.w("checkout-sdk", "No logo available for network: " + networkCode);
+            return;
+        }
+        viewRequests.put(view, new LogoRequest(networkCode, networkLogoUrl));
+        final int width = getTargetSize(view.getLayoutParams() != null ? view.getLayoutParams().width : 0, view.getWidth());
+        final int height = getTargetSize(view.getLayoutParams() != null ? view.getLayoutParams().height : 0, view.getHeight());
+        final String key = (fileName != null ? fileName : networkLogoUrl.toString()) + "@" + width + "x" + height;
+        Bitmap cached;
+        synchronized (references) {
+            // the reference is added before the Bitmap can be removed from the cache and pooled
+            cached = memoryCache.get(key);
+            if (cached != null) {
+                addReferences(cached, 1);
+            }
         }
+        if (cached != null) {
+            onLoadBitmapSuccess(view, cached);
+            return;
+        }
+        initDiskCache(context);
 
-        WorkerTask<Bitmap> task = WorkerTask.fromCallable(() -> loadLogo(context, networkCode, networkLogoUrl));
-        task.subscribe(new WorkerSubscriber<Bitmap>() {
+        ViewLoad load = new ViewLoad();
+        load.task = WorkerTask.fromCallable(() -> onLoadCompleted(load, loadLogo(context, key, fileName, networkLogoUrl, width, height)));
+        load.task.subscribe(new WorkerSubscriber<Bitmap>() {
             @Override
             public void onSuccess(Bitmap bitmap) {
-                onLoadBitmapSuccess(view, bitmap);
+                Bitmap result = takeResult(load);
+                if (result == null) {
+                    // the ImageView has been recycled or detached while this logo was loading
+                    return;
+                }
+                pendingLoads.remove(view);
+                onLoadBitmapSuccess(view, result);
             }
 
             @Override
             public void onError(Throwable cause) {
+                if (pendingLoads.get(view) != load) {
+                    return;
+                }
+                pendingLoads.remove(view);
+                if (cause instanceof CancellationException) {
+                    // the load was discarded from the full image queue, a visible ImageView loads its logo again
+                    if (view.isAttachedToWindow()) {
+                        reloadImage(view);
+                    }
+                    return;
+                }
                 Log.w("checkout-sdk", cause);
                 // we ignore image loading failures
             }
         });
-        Workers.getInstance().forImageTasks().execute(task);
+        pendingLoads.put(view, load);
+        registerAttachListener(view);
+        Workers.getInstance().forImageTasks().execute(load.task);
+    }
+
+    void clearImage(ImageView view) {
+        viewRequests.remove(view);
+        cancelPendingLoad(view);
+        Bitmap bitmap = viewBitmaps.remove(view);
+        if (bitmap != null) {
+            view.setImageDrawable(null);
+            releaseReference(bitmap);
+        }
+    }
+
+    /**
+     * Cancel the pending load of the ImageView, a load which has not started yet is removed from the image executor.
+     * The reference to the Bitmap of a cancelled load is released, either here or by the load once it completes.
+     */
+    private void cancelPendingLoad(ImageView view) {
+        ViewLoad load = pendingLoads.remove(view);
+        if (load == null) {
+            return;
+        }
+        Bitmap result;
+        synchronized (references) {
+            load.cancelled = true;
+            result = load.result;
+            load.result = null;
+        }
+        if (result != null) {
+            releaseReference(result);
+        }
+        load.task.cancel(false);
+        ExecutorService executor = Workers.getInstance().forImageTasks();
+        if (executor instanceof ThreadPoolExecutor) {
+            ((ThreadPoolExecutor) executor).remove(load.task);
+        }
     }
 
+    /**
+     * Called in the image thread when the Bitmap of the load has been loaded, the caller holds a reference to the Bitmap
+     * which is released when the load has been cancelled.
+     */
+    private Bitmap onLoadCompleted(ViewLoad load, Bitmap bitmap) {
+        synchronized (references) {
+            if (load.cancelled) {
+                releaseReference(bitmap);
+            } else {
+                load.result = bitmap;
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Take the Bitmap of the completed load, the reference to the Bitmap is handed over to the caller
+     *
+     * @return the Bitmap or null when the load has been cancelled
+     */
+    private Bitmap takeResult(ViewLoad load) {
+        synchronized (references) {
+            Bitmap result = load.result;
+            load.result = null;
+            return result;
+        }
+    }
+
+    private void registerAttachListener(ImageView view) {
+        if (attachListeners.containsKey(view)) {
+            return;
+        }
+        attachListeners.put(view, Boolean.TRUE);
+        view.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+            @Override
+            public void onViewAttachedToWindow(View v) {
+                reloadImage((ImageView) v);
+            }
+
+            @Override
+            public void onViewDetachedFromWindow(View v) {
+                cancelPendingLoad((ImageView) v);
+            }
+        });
+    }
+
+    /**
+     * Load the requested logo again when its load has been cancelled, i.e. because the ImageView was detached
+     * or the load was discarded from the full image queue
+     */
+    private void reloadImage(ImageView view) {
+        LogoRequest request = viewRequests.get(view);
+        if (request != null && !request.loaded && !pendingLoads.containsKey(view)) {
+            loadImageIntoView(view, request.networkCode, request.networkLogoUrl);
+        }
+    }
+
+    /**
+     * Show the Bitmap in the ImageView, the caller holds a reference to the Bitmap which is handed over to the ImageView
+     */
     private void onLoadBitmapSuccess(ImageView view, Bitmap bitmap) {
         try {
             view.setImageBitmap(bitmap);
         } catch (Exception e) {
             Log.w("checkout-sdk", e);
             // we ignore image loading failures which may occur if the device is out of memory
+            releaseReference(bitmap);
+            return;
+        }
+        Bitmap previous = viewBitmaps.put(view, bitmap);
+        if (previous != null) {
+            releaseReference(previous);
+        }
+        LogoRequest request = viewRequests.get(view);
+        if (request != null) {
+            request.loaded = true;
         }
     }
 
-    private Bitmap loadLogo(Context context, String networkCode, URL networkLogoUrl) throws PaymentException {
-        if (localNetworkLogos.containsKey(networkCode)) {
-            String fileName = localNetworkLogos.get(networkCode);
-            return loadBitmapFromFile(context, fileName);
-        } else {
-            return imageConnection.loadBitmap(networkLogoUrl);
+    private static int getTargetSize(int layoutSize, int viewSize) {
+        return layoutSize > 0 ? layoutSize : Math.max(viewSize, 0);
+    }
+
+    private void addReferences(Bitmap bitmap, int count) {
+        synchronized (references) {
+            Integer current = references.get(bitmap);
+            references.put(bitmap, current != null ? current + count : count);
         }
     }
 
-    private Bitmap loadBitmapFromFile(Context context, String fileName) throws PaymentException {
+    private void releaseReference(Bitmap bitmap) {
+        synchronized (references) {
+            Integer current = references.get(bitmap);
+            if (current == null) {
+                return;
+            }
+            if (current > 1) {
+                references.put(bitmap, current - 1);
+                return;
+            }
+            references.remove(bitmap);
+            if (removedFromCache.remove(bitmap) != null) {
+                bitmapPool.put(bitmap);
+            }
+        }
+    }
+
+    private void onRemovedFromCache(Bitmap bitmap) {
+        synchronized (references) {
+            if (references.containsKey(bitmap)) {
+                removedFromCache.put(bitmap, Boolean.TRUE);
+            } else {
+                bitmapPool.put(bitmap);
+            }
+        }
+    }
+
+    private Bitmap loadLogo(Context context, String key, String fileName, URL networkLogoUrl, int width, int height)
+        throws PaymentException {
+        // Requests for the same logo wait for the request which started loading it first
+        LogoLoad load;
+        boolean owner = false;
+        synchronized (references) {
+            load = loads.get(key);
+            if (load == null) {
+                LogoLoad newLoad = new LogoLoad();
+                newLoad.task = new FutureTask<>(() -> decodeLogo(newLoad, context, key, fileName, networkLogoUrl, width, height));
+                load = newLoad;
+                loads.put(key, load);
+                owner = true;
+            }
+            load.waiters++;
+        }
+        if (owner) {
+            runLoad(key, load);
+        }
         try {
-            InputStream inputStream = context.getAssets().open(fileName);
-            return BitmapFactory.decodeStream(inputStream);
+            return load.task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof PaymentException) {
+                throw (PaymentException) cause;
+            }
+            throw new PaymentException("Error while loading logo", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentException("Interrupted while loading logo", e);
+        }
+    }
+
+    private void runLoad(String key, LogoLoad load) {
+        load.task.run();
+        try {
+            memoryCache.put(key, load.task.get());
+        } catch (ExecutionException | InterruptedException e) {
+            // the waiting requests receive the error
+        }
+    }
+
+    /**
+     * Decode the logo of the load, the references of all waiting requests are added before they receive the Bitmap
+     */
+    private Bitmap decodeLogo(LogoLoad load, Context context, String key, String fileName, URL networkLogoUrl, int width,
+        int height) throws PaymentException {
+        Bitmap bitmap = null;
+        try {
+            bitmap = decodeLogo(context, key, fileName, networkLogoUrl, width, height);
+            return bitmap;
+        } finally {
+            synchronized (references) {
+                loads.remove(key);
+                if (bitmap != null) {
+                    // every waiting request delivers the Bitmap to an ImageView or releases its reference
+                    addReferences(bitmap, load.waiters);
+                }
+            }
+        }
+    }
+
+    private Bitmap decodeLogo(Context context, String key, String fileName, URL networkLogoUrl, int width, int height)
+        throws PaymentException {
+        byte[] data;
+        if (fileName != null) {
+            data = loadDataFromFile(context, fileName);
+        } else {
+            data = loadDataFromUrl(networkLogoUrl);
+        }
+        Bitmap bitmap = decoder.decode(data, width, height);
+        if (bitmap == null) {
+            throw new PaymentException("Could not decode logo: " + key);
+        }
+        return bitmap;
+    }
+
+    private byte[] loadDataFromUrl(URL networkLogoUrl) throws PaymentException {
+        String url = networkLogoUrl.toString();
+        byte[] data = diskCache.get(url);
+        if (data != null) {
+            diskHitCount.incrementAndGet();
+        } else {
+            diskMissCount.incrementAndGet();
+            data = imageConnection.loadImageData(networkLogoUrl);
+            diskCache.put(url, data);
+        }
+        return data;
+    }
+
+    private byte[] loadDataFromFile(Context context, String fileName) throws PaymentException {
+        try (InputStream in = context.getAssets().open(fileName)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            int read;
+            while ((read = in.read(buf)) != -1) {
+                out.write(buf, 0, read);
+            }
+            return out.toByteArray();
         } catch (IOException e) {
             throw new PaymentException(e);
         }
     }
 
-    private void loadLocalNetworkLogos(Context context) {
-        synchronized (localNetworkLogos) {
-            if (localNetworkLogos.size() != 0) {
-                return;
-            }
-            Resources res = context.getResources();
-            String[] ts;
-            String[] ar = res.getStringArray(R.array.networklogos);
-            for (String icon : ar) {
-                ts = icon.split(",");
-                localNetworkLogos.put(ts[0], NETWORKLOGO_FOLDER + ts[1]);
+    private synchronized void initDiskCache(Context context) {
+        if (diskCache == null) {
+            File directory = new File(context.getCacheDir(), DISK_CACHE_DIR);
+            diskCache = new LogoDiskCache(directory, LogoDiskCache.DEFAULT_MAX_SIZE, LogoDiskCache.DEFAULT_MAX_AGE);
+        }
+    }
+
+    private Map<String, String> getLocalNetworkLogos(Context context) {
+        Map<String, String> logos = localNetworkLogos;
+        if (logos != null) {
+            return logos;
+        }
+        synchronized (this) {
+            if (localNetworkLogos == null) {
+                localNetworkLogos = loadLocalNetworkLogos(context);
             }
+            return localNetworkLogos;
+        }
+    }
+
+    private Map<String, String> loadLocalNetworkLogos(Context context) {
+        Map<String, String> logos = new HashMap<>();
+        Resources res = context.getResources();
+        String[] ts;
+        String[] ar = res.getStringArray(R.array.networklogos);
+        for (String icon : ar) {
+            ts = icon.split(",");
+            logos.put(ts[0], NETWORKLOGO_FOLDER + ts[1]);
         }
+        return Collections.unmodifiableMap(logos);
+    }
+
+    /**
+     * A logo being loaded together with the number of requests waiting for it
+     */
+    private static class LogoLoad {
+        FutureTask<Bitmap> task;
+        int waiters;
+    }
+
+    /**
+     * The logo requested for an ImageView and whether it is shown in the ImageView
+     */
+    private static class LogoRequest {
+        final String networkCode;
+        final URL networkLogoUrl;
+        boolean loaded;
+
+        LogoRequest(String networkCode, URL networkLogoUrl) {
+            this.networkCode = networkCode;
+            this.networkLogoUrl = networkLogoUrl;
+        }
+    }
+
+    /**
+     * The pending load of an ImageView, the result and cancelled fields are guarded by the references map
+     */
+    private static class ViewLoad {
+        WorkerTask<Bitmap> task;
+        Bitmap result;
+        boolean cancelled;
     }
 
     private static class InstanceHolder {
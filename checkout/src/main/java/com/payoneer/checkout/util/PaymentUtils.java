@@ -16,6 +16,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
@@ -395,6 +398,27 @@ public final class PaymentUtils {
         return map == null ? Collections.emptyMap() : map;
     }
 
+    /**
+     * Create the SHA-256 hash of the value, used for creating file names of cached resources.
+     *
+     * @param value to be hashed
+     * @return the hex encoded hash
+     */
+    public static String toSha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder buf = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                buf.append(Character.forDigit((b >> 4) & 0xF, 16));
+                buf.append(Character.forDigit(b & 0xF, 16));
+            }
+            return buf.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+
     /**
      * Set the test Id to the view with the proper formatting understood by the automated UI tests.
      *
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.validation;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class holding a compiled validation regex. Regexes only accepting a number of digits, i.e. "^[0-9]{3}$",
+ * are matched by hand, all other regexes are matched using a precompiled Pattern.
+ */
+final class ValidationRule {
+
+    private final static Pattern DIGITS_REGEX = Pattern.compile("^\\^?\\[0-9\\](?:(\\*)|(\\+)|\\{(\\d+)(,(\\d*))?\\})\\$?$");
+
+    private final Pattern pattern;
+    private final int minDigits;
+    private final int maxDigits;
+
+    private ValidationRule(final Pattern pattern, final int minDigits, final int maxDigits) {
+        this.pattern = pattern;
+        this.minDigits = minDigits;
+        this.maxDigits = maxDigits;
+    }
+
+    /**
+     * Compile the regex into a ValidationRule
+     *
+     * @param regex the regex to be compiled
+     * @return the newly created ValidationRule
+     */
+    static ValidationRule compile(final String regex) {
+        return compile(regex, null);
+    }
+
+    /**
+     * Compile the regex into a ValidationRule, the optional pattern is used when the regex cannot be matched by hand.
+     *
+     * @param regex the regex to be compiled
+     * @param pattern the already compiled regex, may be null
+     * @return the newly created ValidationRule
+     */
+    static ValidationRule compile(final String regex, final Pattern pattern) {
+        Matcher matcher = DIGITS_REGEX.matcher(regex);
+        if (!matcher.matches()) {
+            return new ValidationRule(pattern != null ? pattern : Pattern.compile(regex), 0, 0);
+        }
+        if (matcher.group(1) != null) {
+            return new ValidationRule(null, 0, Integer.MAX_VALUE);
+        }
+        if (matcher.group(2) != null) {
+            return new ValidationRule(null, 1, Integer.MAX_VALUE);
+        }
+        try {
+            int min = Integer.parseInt(matcher.group(3));
+            int max = min;
+            if (matcher.group(4) != null) {
+                String upper = matcher.group(5);
+                max = upper.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(upper);
+            }
+            if (min <= max) {
+                return new ValidationRule(null, min, max);
+            }
+        } catch (NumberFormatException e) {
+            // the number of digits is too large to be matched by hand
+        }
+        return new ValidationRule(pattern != null ? pattern : Pattern.compile(regex), 0, 0);
+    }
+
+    /**
+     * Check if the entire value matches this ValidationRule
+     *
+     * @param value to be matched
+     * @return true when the value matches, false otherwise
+     */
+    boolean matches(final String value) {
+        if (pattern != null) {
+            return pattern.matcher(value).matches();
+        }
+        int length = value.length();
+        if (length < minDigits || length > maxDigits) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
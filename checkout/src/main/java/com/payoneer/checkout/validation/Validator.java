@@ -9,11 +9,15 @@
 package com.payoneer.checkout.validation;
 
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.payoneer.checkout.core.PaymentInputType;
 import com.payoneer.checkout.model.PaymentMethod;
 import com.payoneer.checkout.resource.ValidationGroup;
+import com.payoneer.checkout.resource.ValidationGroupItem;
 import com.payoneer.checkout.util.AccountMaskUtils;
 
 import android.text.TextUtils;
@@ -38,7 +42,15 @@ public class Validator {
     public final static int MAXLENGTH_BIC = 11;
     public final static int MAX_EXPIRY_YEAR = 50;
 
+    private final static Pattern PATTERN_MONTH = Pattern.compile(REGEX_MONTH);
+    private final static Pattern PATTERN_YEAR = Pattern.compile(REGEX_YEAR);
+    private final static Pattern PATTERN_BIC = Pattern.compile(REGEX_BIC);
+    private final static ValidationRule RULE_ACCOUNT_NUMBER = ValidationRule.compile(REGEX_ACCOUNT_NUMBER);
+    private final static ValidationRule RULE_VERIFICATION_CODE = ValidationRule.compile(REGEX_VERIFICATION_CODE);
+    private final static ValidationRule RULE_BANK_CODE = ValidationRule.compile(REGEX_BANK_CODE);
+
     private final Map<String, ValidationGroup> validations;
+    private final Map<String, Map<String, ValidationRule>> rules;
     private static Validator instance;
 
     /**
@@ -51,6 +63,27 @@ public class Validator {
             throw new IllegalArgumentException("Validations may not be null");
         }
         this.validations = validations;
+        this.rules = compileRules(validations);
+    }
+
+    private static Map<String, Map<String, ValidationRule>> compileRules(Map<String, ValidationGroup> validations) {
+        Map<String, Map<String, ValidationRule>> rules = new HashMap<>();
+        for (ValidationGroup group : validations.values()) {
+            List<ValidationGroupItem> items = group.getValidationGroupItems();
+            if (items == null) {
+                continue;
+            }
+            Map<String, ValidationRule> groupRules = new HashMap<>();
+            for (ValidationGroupItem item : items) {
+                String regex = item.getRegex();
+                // the first item of a type is used, the same as when the regex is looked up in the group
+                if (regex != null && !groupRules.containsKey(item.getType())) {
+                    groupRules.put(item.getType(), ValidationRule.compile(regex, item.getPattern()));
+                }
+            }
+            rules.put(group.getCode(), groupRules);
+        }
+        return rules;
     }
 
     /**
@@ -87,6 +120,12 @@ public class Validator {
         return group != null ? group.getValidationRegex(type) : null;
     }
 
+    private ValidationRule getValidationRule(String code, String type, ValidationRule defaultRule) {
+        Map<String, ValidationRule> groupRules = rules.get(code);
+        ValidationRule rule = groupRules != null ? groupRules.get(type) : null;
+        return rule != null ? rule : defaultRule;
+    }
+
     public int getMaxInputLength(String code, String type) {
 
         if (code == null || type == null) {
@@ -149,17 +188,16 @@ public class Validator {
         }
         value1 = value1 == null ? "" : value1;
         value2 = value2 == null ? "" : value2;
-        String regex = getValidationRegex(code, type);
 
         switch (type) {
             case PaymentInputType.ACCOUNT_NUMBER:
-                return validateAccountNumber(method, value1, regex);
+                return validateAccountNumber(method, value1, getValidationRule(code, type, RULE_ACCOUNT_NUMBER));
             case PaymentInputType.VERIFICATION_CODE:
-                return validateVerificationCode(value1, regex);
+                return validateVerificationCode(value1, getValidationRule(code, type, RULE_VERIFICATION_CODE));
             case PaymentInputType.HOLDER_NAME:
                 return validateHolderName(value1);
             case PaymentInputType.BANK_CODE:
-                return validateBankCode(value1, regex);
+                return validateBankCode(value1, getValidationRule(code, type, RULE_BANK_CODE));
             case PaymentInputType.EXPIRY_DATE:
                 return validateExpiryDate(value1, value2);
             case PaymentInputType.EXPIRY_MONTH:
@@ -175,15 +213,13 @@ public class Validator {
         }
     }
 
-    private ValidationResult validateAccountNumber(String method, String number, String regex) {
-        regex = regex != null ? regex : REGEX_ACCOUNT_NUMBER;
-
+    private ValidationResult validateAccountNumber(String method, String number, ValidationRule rule) {
         switch (method) {
             case PaymentMethod.CREDIT_CARD:
             case PaymentMethod.DEBIT_CARD:
-                return validateCardNumber(number, regex);
+                return validateCardNumber(number, rule);
             default:
-                if (!number.matches(regex)) {
+                if (!rule.matches(number)) {
                     if (TextUtils.isEmpty(number)) {
                         return new ValidationResult(ValidationResult.MISSING_ACCOUNT_NUMBER);
                     }
@@ -193,9 +229,9 @@ public class Validator {
         return new ValidationResult(null);
     }
 
-    private ValidationResult validateCardNumber(String number, String regex) {
+    private ValidationResult validateCardNumber(String number, ValidationRule rule) {
 
-        if (!number.matches(regex)) {
+        if (!rule.matches(number)) {
             if (TextUtils.isEmpty(number)) {
                 return new ValidationResult(ValidationResult.MISSING_ACCOUNT_NUMBER);
             }
@@ -207,10 +243,9 @@ public class Validator {
         return new ValidationResult(null);
     }
 
-    private ValidationResult validateVerificationCode(String verificationCode, String regex) {
-        regex = regex != null ? regex : REGEX_VERIFICATION_CODE;
+    private ValidationResult validateVerificationCode(String verificationCode, ValidationRule rule) {
 
-        if (!verificationCode.matches(regex)) {
+        if (!rule.matches(verificationCode)) {
             if (TextUtils.isEmpty(verificationCode)) {
                 return new ValidationResult(ValidationResult.MISSING_VERIFICATION_CODE);
             }
@@ -246,7 +281,7 @@ public class Validator {
 
         if (TextUtils.isEmpty(month)) {
             error = ValidationResult.MISSING_EXPIRY_MONTH;
-        } else if (!month.matches(REGEX_MONTH)) {
+        } else if (!PATTERN_MONTH.matcher(month).matches()) {
             error = ValidationResult.INVALID_EXPIRY_MONTH;
         }
         return new ValidationResult(error);
@@ -257,16 +292,15 @@ public class Validator {
 
         if (TextUtils.isEmpty(year)) {
             error = ValidationResult.MISSING_EXPIRY_YEAR;
-        } else if (!year.matches(REGEX_YEAR)) {
+        } else if (!PATTERN_YEAR.matcher(year).matches()) {
             error = ValidationResult.INVALID_EXPIRY_YEAR;
         }
         return new ValidationResult(error);
     }
 
-    private ValidationResult validateBankCode(String bankCode, String regex) {
-        regex = regex != null ? regex : REGEX_BANK_CODE;
+    private ValidationResult validateBankCode(String bankCode, ValidationRule rule) {
 
-        if (!bankCode.matches(regex)) {
+        if (!rule.matches(bankCode)) {
             if (TextUtils.isEmpty(bankCode)) {
                 return new ValidationResult(ValidationResult.MISSING_BANK_CODE);
             }
@@ -291,14 +325,14 @@ public class Validator {
 
         if (TextUtils.isEmpty(bic)) {
             error = ValidationResult.MISSING_BIC;
-        } else if (!bic.matches(REGEX_BIC)) {
+        } else if (!PATTERN_BIC.matcher(bic).matches()) {
             error = ValidationResult.INVALID_BIC;
         }
         return new ValidationResult(error);
     }
 
     private boolean isValidExpiryDate(String month, String year) {
-        if (!(month.matches(REGEX_MONTH) && year.matches(REGEX_YEAR))) {
+        if (!(PATTERN_MONTH.matcher(month).matches() && PATTERN_YEAR.matcher(year).matches())) {
             return false;
         }
         try {
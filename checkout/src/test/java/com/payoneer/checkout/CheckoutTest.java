@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.payoneer.checkout.network.HttpTransport;
+import com.payoneer.checkout.test.util.TestUtils;
+
+public class CheckoutTest {
+
+    @After
+    public void tearDown() {
+        HttpTransport.setInstance(new HttpTransport(true));
+    }
+
+    @Test
+    public void of_keepAliveNotSet_transportUnchanged() {
+        HttpTransport transport = new HttpTransport(false);
+        HttpTransport.setInstance(transport);
+
+        CheckoutConfiguration config = CheckoutConfiguration.createBuilder(TestUtils.createDefaultURL()).build();
+        Checkout.of(config);
+        assertSame(transport, HttpTransport.getInstance());
+        assertFalse(transport.isKeepAlive());
+    }
+
+    @Test
+    public void of_keepAliveSet_appliedToTransport() {
+        HttpTransport transport = new HttpTransport(false);
+        HttpTransport.setInstance(transport);
+
+        CheckoutConfiguration config = CheckoutConfiguration.createBuilder(TestUtils.createDefaultURL())
+            .keepAlive(true)
+            .build();
+        Checkout.of(config);
+        assertTrue(transport.isKeepAlive());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkerCancellationTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void setCancelListener_notInTask_ignored() {
+        assertTrue(WorkerCancellation.setCancelListener(() -> {
+        }));
+    }
+
+    @Test
+    public void cancel_listenerCalled() throws InterruptedException {
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch aborted = new CountDownLatch(1);
+        WorkerFuture<String> future = WorkerFuture.supplyAsync(() -> {
+            WorkerCancellation.setCancelListener(aborted::countDown);
+            registered.countDown();
+            // a blocking call ignoring interrupts
+            while (aborted.getCount() > 0) {
+                aborted.await(5, TimeUnit.SECONDS);
+            }
+            return "aborted";
+        }, executor);
+        assertTrue(registered.await(5, TimeUnit.SECONDS));
+        future.cancel(true);
+        assertTrue(aborted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancel_listenerCalledOutsideLock() throws Exception {
+        WorkerCancellation cancellation = new WorkerCancellation();
+        AtomicBoolean locked = new AtomicBoolean(true);
+        cancellation.call(() -> {
+            WorkerCancellation.setCancelListener(() -> locked.set(Thread.holdsLock(cancellation)));
+            cancellation.cancel();
+            return null;
+        });
+        assertFalse(locked.get());
+    }
+
+    @Test
+    public void cancel_withoutInterrupt_listenerNotCalled() throws InterruptedException {
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicBoolean aborted = new AtomicBoolean();
+        WorkerFuture<String> future = WorkerFuture.supplyAsync(() -> {
+            WorkerCancellation.setCancelListener(() -> aborted.set(true));
+            registered.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return "finished";
+        }, executor);
+        assertTrue(registered.await(5, TimeUnit.SECONDS));
+        future.cancel(false);
+        finish.countDown();
+        assertFalse(aborted.get());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkerFutureTest {
+
+    private ExecutorService executor;
+    private List<Runnable> messages;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        messages = new ArrayList<>();
+        MainThreadDispatcher.setInstance(new MainThreadDispatcher(messages::add));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        MainThreadDispatcher.setInstance(null);
+    }
+
+    @Test
+    public void thenApply_thenCompose_valuesComposed() throws Exception {
+        WorkerFuture<Integer> future = WorkerFuture.supplyAsync(() -> 20, executor)
+            .thenApply(value -> value + 1)
+            .thenCompose(value -> WorkerFuture.supplyAsync(() -> value * 2, executor));
+        assertEquals(42, (int) future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void thenApply_previousFailed_failureForwarded() throws Exception {
+        WorkerFuture<Integer> future = WorkerFuture.<Integer>failed(new PaymentException("failed"))
+            .thenApply(value -> value + 1);
+        try {
+            future.get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof PaymentException);
+        }
+    }
+
+    @Test
+    public void allOf_allCompleted_completed() throws Exception {
+        WorkerFuture<String> first = WorkerFuture.supplyAsync(() -> "first", executor);
+        WorkerFuture<String> second = WorkerFuture.supplyAsync(() -> "second", executor);
+        WorkerFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+    }
+
+    @Test
+    public void allOf_oneFailed_othersCancelled() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        WorkerFuture<String> slow = WorkerFuture.supplyAsync(() -> {
+            blocked.await();
+            return "slow";
+        }, executor);
+        WorkerFuture<String> failing = WorkerFuture.supplyAsync(() -> {
+            throw new PaymentException("failed");
+        }, executor);
+        WorkerFuture<Void> all = WorkerFuture.allOf(slow, failing);
+        try {
+            all.get(5, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof PaymentException);
+        }
+        awaitCancelled(slow);
+    }
+
+    @Test
+    public void cancel_runningTaskInterrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        WorkerFuture<String> source = WorkerFuture.supplyAsync(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "source";
+        }, executor);
+        WorkerFuture<String> future = source.thenApply(value -> value + "!");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(true));
+        assertTrue(source.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        try {
+            future.get();
+            fail("CancellationException expected");
+        } catch (CancellationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void withTimeout_notCompleted_timeoutAndCancelled() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        WorkerFuture<String> source = WorkerFuture.supplyAsync(() -> {
+            blocked.await();
+            return "source";
+        }, executor);
+        WorkerFuture<String> future = source.withTimeout(10, TimeUnit.MILLISECONDS);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        awaitCancelled(source);
+    }
+
+    @Test
+    public void subscribe_deliveredOnMainThread() throws Exception {
+        List<String> results = new ArrayList<>();
+        WorkerFuture<String> future = WorkerFuture.completed("value");
+        future.subscribe(new WorkerSubscriber<String>() {
+            @Override
+            public void onSuccess(String param) {
+                results.add(param);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+        });
+        assertTrue(results.isEmpty());
+        assertEquals(1, messages.size());
+        messages.get(0).run();
+        assertEquals(1, results.size());
+
+        future.unsubscribe();
+        assertFalse(future.isSubscribed());
+    }
+
+    /**
+     * The futures are cancelled right after the failure of the composed future has been set
+     */
+    private static void awaitCancelled(WorkerFuture<?> future) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!future.isCancelled() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(future.isCancelled());
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class WorkerHistogramTest {
+
+    @Test
+    public void record_durationsCountedInBuckets() {
+        WorkerHistogram histogram = new WorkerHistogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(3);
+        histogram.record(10000);
+
+        long[] counts = histogram.getBucketCounts();
+        assertEquals(histogram.getBucketBounds().length + 1, counts.length);
+        assertEquals(2, counts[0]);
+        assertEquals(1, counts[2]);
+        assertEquals(1, counts[counts.length - 1]);
+        assertEquals(4, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentile() {
+        WorkerHistogram histogram = new WorkerHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+
+        for (int i = 0; i < 9; i++) {
+            histogram.record(20);
+        }
+        histogram.record(400);
+        assertEquals(25, histogram.getPercentile(50));
+        assertEquals(25, histogram.getPercentile(90));
+        assertEquals(500, histogram.getPercentile(95));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkerTaskTest {
+
+    private List<Runnable> messages;
+
+    @Before
+    public void setUp() {
+        messages = new ArrayList<>();
+        MainThreadDispatcher.setInstance(new MainThreadDispatcher(messages::add));
+    }
+
+    @After
+    public void tearDown() {
+        MainThreadDispatcher.setInstance(null);
+    }
+
+    @Test
+    public void done_burstOfTasks_deliveredWithSingleMessage() {
+        List<Integer> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final int value = i;
+            WorkerTask<Integer> task = WorkerTask.fromCallable(() -> value);
+            task.subscribe(new ResultSubscriber(results));
+            task.run();
+        }
+        assertEquals(1, messages.size());
+        assertTrue(results.isEmpty());
+
+        messages.get(0).run();
+        assertEquals(50, results.size());
+        assertEquals(0, (int) results.get(0));
+        assertEquals(49, (int) results.get(49));
+
+        // A task completing after the message has been handled posts a new message
+        WorkerTask<Integer> task = WorkerTask.fromCallable(() -> 50);
+        task.subscribe(new ResultSubscriber(results));
+        task.run();
+        assertEquals(2, messages.size());
+    }
+
+    @Test
+    public void done_unsubscribed_noMessagePosted() {
+        List<Integer> results = new ArrayList<>();
+        WorkerTask<Integer> task = WorkerTask.fromCallable(() -> 1);
+        task.subscribe(new ResultSubscriber(results));
+        task.unsubscribe();
+        task.run();
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void deliver_unsubscribedWhileQueued_notDelivered() {
+        List<Integer> results = new ArrayList<>();
+        WorkerTask<Integer> task = WorkerTask.fromCallable(() -> 1);
+        task.subscribe(new ResultSubscriber(results));
+        task.run();
+        task.unsubscribe();
+        messages.get(0).run();
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void deliver_error_onErrorCalled() {
+        List<Throwable> errors = new ArrayList<>();
+        WorkerTask<Integer> task = WorkerTask.fromCallable(() -> {
+            throw new PaymentException("error");
+        });
+        task.subscribe(new WorkerSubscriber<Integer>() {
+            @Override
+            public void onSuccess(Integer param) {
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        });
+        task.run();
+        messages.get(0).run();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof PaymentException);
+    }
+
+    @Test
+    public void discard_queuedTask_subscriberNotified() {
+        List<Throwable> errors = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        WorkerTask<Integer> task = WorkerTask.fromCallable(() -> 1);
+        task.subscribe(new WorkerSubscriber<Integer>() {
+            @Override
+            public void onSuccess(Integer param) {
+                results.add(param);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        });
+        task.discard();
+        assertTrue(task.isCancelled());
+        assertEquals(1, messages.size());
+
+        messages.get(0).run();
+        assertTrue(results.isEmpty());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof CancellationException);
+    }
+
+    @Test
+    public void discard_completedTask_notDiscarded() {
+        WorkerTask<Integer> task = WorkerTask.fromCallable(() -> 1);
+        task.run();
+        task.discard();
+        assertFalse(task.isCancelled());
+        assertTrue(messages.isEmpty());
+    }
+
+    private static class ResultSubscriber implements WorkerSubscriber<Integer> {
+
+        private final List<Integer> results;
+
+        ResultSubscriber(List<Integer> results) {
+            this.results = results;
+        }
+
+        @Override
+        public void onSuccess(Integer param) {
+            results.add(param);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+    }
+}
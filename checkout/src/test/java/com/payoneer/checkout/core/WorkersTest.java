@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class WorkersTest {
+
+    @Test
+    public void forImageTasks_queuedTasks_mostRecentTaskRunsFirst() throws InterruptedException {
+        ExecutorService executor = Workers.getInstance().forImageTasks();
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch others = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            final CountDownLatch blocked = i == 0 ? first : others;
+            executor.execute(() -> {
+                running.countDown();
+                await(blocked);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finished = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            executor.execute(() -> {
+                order.add(index);
+                finished.countDown();
+            });
+        }
+        // a single thread becomes available and runs the queued tasks one by one
+        first.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        others.countDown();
+        assertEquals(Arrays.asList(2, 1, 0), order);
+    }
+
+    @Test
+    public void forImageTasks_queueFull_oldestTaskCancelled() throws InterruptedException {
+        ExecutorService executor = Workers.getInstance().forImageTasks();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                await(blocked);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        FutureTask<?>[] tasks = new FutureTask<?>[65];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new FutureTask<>(() -> null);
+            executor.execute(tasks[i]);
+        }
+        assertTrue(tasks[0].isCancelled());
+        blocked.countDown();
+        for (int i = 1; i < tasks.length; i++) {
+            try {
+                tasks[i].get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new AssertionError("Queued task did not complete: " + i, e);
+            }
+        }
+    }
+
+    @Test
+    public void getNetworkExecutor_taskExecuted_namedThreadAndLatencyRecorded() throws Exception {
+        WorkerExecutor executor = Workers.getInstance().getNetworkExecutor();
+        long count = executor.getExecutionLatency().getCount();
+        String name = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(name.startsWith("checkout-network-"));
+
+        // afterExecute is called after the result of the task has been set
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getExecutionLatency().getCount() == count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count + 1, executor.getExecutionLatency().getCount());
+    }
+
+    @Test
+    public void setHostExecutor_tasksExecutedByHostExecutor() throws Exception {
+        List<Runnable> executed = new ArrayList<>();
+        Workers workers = Workers.getInstance();
+        try {
+            workers.setHostExecutor(command -> {
+                executed.add(command);
+                command.run();
+            });
+            assertEquals("network", workers.forNetworkTasks().submit(() -> "network").get());
+            assertEquals("image", workers.forImageTasks().submit(() -> "image").get());
+            assertEquals("localization", workers.forLocalizationTasks().submit(() -> "localization").get());
+            assertEquals("prefetch", workers.forPrefetchTasks().submit(() -> "prefetch").get());
+            assertEquals(4, executed.size());
+        } finally {
+            workers.setHostExecutor(null);
+        }
+        assertSame(workers.getNetworkExecutor(), workers.forNetworkTasks());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
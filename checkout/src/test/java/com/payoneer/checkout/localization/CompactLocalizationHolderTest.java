@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CompactLocalizationHolderTest {
+
+    private final static int NR_NETWORKS = 30;
+    private final static int NR_TRANSLATIONS = 100;
+
+    @Test
+    public void translate() {
+        LocalizationHolder holder = CompactLocalizationHolder.of(createMap("key", "value", 5), new LocalizationDictionary());
+        assertEquals("value3", holder.translate("key3"));
+        assertNull(holder.translate("foo"));
+        assertNull(holder.translate(null));
+    }
+
+    @Test
+    public void translate_nullMap_returnsNull() {
+        CompactLocalizationHolder holder = CompactLocalizationHolder.of(null, new LocalizationDictionary());
+        assertEquals(0, holder.size());
+        assertNull(holder.translate("key1"));
+    }
+
+    @Test
+    public void translate_multiLocalizationHolder_fallback() {
+        LocalizationDictionary dictionary = new LocalizationDictionary();
+        LocalizationHolder shared = CompactLocalizationHolder.of(createMap("sharedKey", "sharedValue", 5), dictionary);
+        Map<String, String> map = createMap("networkKey", "networkValue", 5);
+        map.put("sharedKey2", "");
+        LocalizationHolder holder = new MultiLocalizationHolder(CompactLocalizationHolder.of(map, dictionary), shared);
+
+        assertEquals("networkValue1", holder.translate("networkKey1"));
+        assertEquals("sharedValue1", holder.translate("sharedKey1"));
+        assertEquals("sharedValue2", holder.translate("sharedKey2"));
+        assertNull(holder.translate("foo"));
+    }
+
+    @Test
+    public void of_multipleNetworks_sharesStrings() {
+        LocalizationDictionary dictionary = new LocalizationDictionary();
+        LocalizationHolder visa = CompactLocalizationHolder.of(createMap("key", "value", 5), dictionary);
+        LocalizationHolder mastercard = CompactLocalizationHolder.of(createMap("key", "value", 5), dictionary);
+
+        assertSame(visa.translate("key3"), mastercard.translate("key3"));
+        assertEquals(10, dictionary.size());
+    }
+
+    @Test
+    public void memoryFootprint_comparedToMapLocalizationHolder() {
+        List<Map<String, String>> maps = new ArrayList<>();
+        for (int i = 0; i < NR_NETWORKS; i++) {
+            maps.add(createMap("account.number.label", "Card number", NR_TRANSLATIONS));
+        }
+        Map<String, Boolean> mapStrings = new IdentityHashMap<>();
+        for (Map<String, String> map : maps) {
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                mapStrings.put(entry.getKey(), Boolean.TRUE);
+                mapStrings.put(entry.getValue(), Boolean.TRUE);
+            }
+        }
+        LocalizationDictionary dictionary = new LocalizationDictionary();
+        for (Map<String, String> map : maps) {
+            CompactLocalizationHolder holder = CompactLocalizationHolder.of(map, dictionary);
+            assertEquals(NR_TRANSLATIONS, holder.size());
+        }
+        // Every MapLocalizationHolder keeps its own copies of the keys and values while the
+        // compact holders share one instance per distinct String
+        assertEquals(NR_NETWORKS * NR_TRANSLATIONS * 2, mapStrings.size());
+        assertEquals(NR_TRANSLATIONS * 2, dictionary.size());
+        assertTrue(dictionary.size() * NR_NETWORKS <= mapStrings.size());
+    }
+
+    private Map<String, String> createMap(String key, String value, int nrTranslations) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < nrTranslations; i++) {
+            // Concatenation creates new String instances as the JSON parser does for every language file
+            map.put(key + i, value + i);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class LocalizationDiskCacheTest {
+
+    private final static String URL = "https://localhost/languages/VISA.json";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void put_get_restoresLocalizationAndValidators() throws IOException {
+        LocalizationDiskCache diskCache = createDiskCache(LocalizationDiskCache.DEFAULT_MAX_SIZE);
+        diskCache.put(createCachedLocalization(URL, 5));
+
+        // a new disk cache instance on the same directory mimics a restarted process
+        CachedLocalization cached = createDiskCache(LocalizationDiskCache.DEFAULT_MAX_SIZE).get(URL);
+        assertNotNull(cached);
+        assertEquals(URL, cached.getUrl());
+        assertEquals("\"etag\"", cached.getETag());
+        assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", cached.getLastModified());
+        assertEquals("value3", cached.toLocalizationHolder().translate("key3"));
+    }
+
+    @Test
+    public void get_unknownUrl_returnsNull() throws IOException {
+        LocalizationDiskCache diskCache = createDiskCache(LocalizationDiskCache.DEFAULT_MAX_SIZE);
+        assertNull(diskCache.get(URL));
+    }
+
+    @Test
+    public void get_expired_returnsNull() throws IOException {
+        File directory = folder.newFolder();
+        LocalizationDiskCache diskCache = new LocalizationDiskCache(directory, LocalizationDiskCache.DEFAULT_MAX_SIZE, 1000);
+        diskCache.put(createCachedLocalization(URL, 5));
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        assertTrue(files[0].setLastModified(System.currentTimeMillis() - 5000));
+        assertNull(diskCache.get(URL));
+        assertEquals(0, diskCache.size());
+    }
+
+    @Test
+    public void put_exceedsMaxSize_evictsOldest() throws IOException {
+        File directory = folder.newFolder();
+        LocalizationDiskCache diskCache = new LocalizationDiskCache(directory, 1024, LocalizationDiskCache.DEFAULT_MAX_AGE);
+        String oldUrl = "https://localhost/languages/MASTERCARD.json";
+        diskCache.put(createCachedLocalization(oldUrl, 40));
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        assertTrue(files[0].setLastModified(System.currentTimeMillis() - 5000));
+
+        diskCache.put(createCachedLocalization(URL, 40));
+        assertNull(diskCache.get(oldUrl));
+        assertNotNull(diskCache.get(URL));
+        assertTrue(diskCache.size() <= 1024);
+    }
+
+    @Test
+    public void clear() throws IOException {
+        LocalizationDiskCache diskCache = createDiskCache(LocalizationDiskCache.DEFAULT_MAX_SIZE);
+        diskCache.put(createCachedLocalization(URL, 5));
+        diskCache.clear();
+        assertNull(diskCache.get(URL));
+        assertEquals(0, diskCache.size());
+    }
+
+    private LocalizationDiskCache createDiskCache(long maxSize) {
+        File directory = new File(folder.getRoot(), "localizations");
+        return new LocalizationDiskCache(directory, maxSize, LocalizationDiskCache.DEFAULT_MAX_AGE);
+    }
+
+    private CachedLocalization createCachedLocalization(String url, int count) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        return new CachedLocalization(url, "\"etag\"", "Wed, 21 Oct 2015 07:28:00 GMT", map);
+    }
+}
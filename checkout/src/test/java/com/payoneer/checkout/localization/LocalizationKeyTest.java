@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.localization;
+
+import static com.payoneer.checkout.localization.LocalizationKey.LABEL_TEXT;
+import static com.payoneer.checkout.localization.LocalizationKey.LABEL_TITLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.payoneer.checkout.model.Interaction;
+import com.payoneer.checkout.model.InteractionCode;
+import com.payoneer.checkout.model.InteractionReason;
+import com.payoneer.checkout.model.NetworkOperationType;
+
+public final class LocalizationKeyTest {
+
+    @Test
+    public void errorKey() {
+        String key = LocalizationKey.errorKey("INVALID_NUMBER");
+        assertEquals("error.INVALID_NUMBER", key);
+        assertSame(key, LocalizationKey.errorKey("INVALID_NUMBER"));
+    }
+
+    @Test
+    public void accountKeys() {
+        String label = LocalizationKey.accountLabelKey("number");
+        assertEquals("account.number.label", label);
+        assertSame(label, LocalizationKey.accountLabelKey("number"));
+
+        String placeholder = LocalizationKey.accountPlaceholderKey("number");
+        assertEquals("account.number.placeholder", placeholder);
+        assertSame(placeholder, LocalizationKey.accountPlaceholderKey("number"));
+
+        String hint = LocalizationKey.accountHintKey("number", LABEL_TITLE);
+        assertEquals("account.number.hint.where.title", hint);
+        assertSame(hint, LocalizationKey.accountHintKey("number", LABEL_TITLE));
+    }
+
+    @Test
+    public void operationButtonKey() {
+        String key = LocalizationKey.operationButtonKey(NetworkOperationType.CHARGE);
+        assertEquals("button.operation.CHARGE.label", key);
+        assertSame(key, LocalizationKey.operationButtonKey(NetworkOperationType.CHARGE));
+    }
+
+    @Test
+    public void interactionKey() {
+        Interaction interaction = new Interaction(InteractionCode.PROCEED, InteractionReason.OK);
+        String key = LocalizationKey.interactionKey(interaction, LABEL_TEXT);
+        assertEquals("interaction.PROCEED.OK.text", key);
+        assertSame(key, LocalizationKey.interactionKey(new Interaction(InteractionCode.PROCEED, InteractionReason.OK), LABEL_TEXT));
+
+        String operationKey = LocalizationKey.interactionKey(interaction, NetworkOperationType.CHARGE, LABEL_TEXT);
+        assertEquals("interaction.CHARGE.PROCEED.OK.text", operationKey);
+        assertSame(operationKey, LocalizationKey.interactionKey(interaction, NetworkOperationType.CHARGE, LABEL_TEXT));
+    }
+
+    @Test
+    public void nullParts() {
+        assertEquals("error.null", LocalizationKey.errorKey(null));
+        assertEquals("account.null.label", LocalizationKey.accountLabelKey(null));
+        assertEquals("interaction.null.null.text", LocalizationKey.interactionKey(new Interaction(null, null), LABEL_TEXT));
+    }
+}
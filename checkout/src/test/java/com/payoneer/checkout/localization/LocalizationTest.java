@@ -13,6 +13,7 @@ import static com.payoneer.checkout.localization.LocalizationKey.LABEL_TITLE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -67,6 +68,23 @@ public final class LocalizationTest {
         assertNull(loc.getNetworkTranslation("VISA", "foo"));
     }
 
+    @Test
+    public void getNetworkTranslation_repeated_returnsResolvedTranslation() {
+        LocalizationHolder shared = createMapLocalizationHolder("sharedKey", "sharedValue", 5);
+        Map<String, LocalizationHolder> networks = new HashMap<>();
+        networks.put("VISA", createNetworkLocalizationHolder("VISA-Key", "VISA-Value", 5, shared));
+
+        Localization loc = new Localization(shared, networks);
+        String translation = loc.getNetworkTranslation("VISA", "sharedKey3");
+        assertEquals("sharedValue3", translation);
+        assertSame(translation, loc.getNetworkTranslation("VISA", "sharedKey3"));
+
+        assertNull(loc.getNetworkTranslation("VISA", "foo"));
+        assertNull(loc.getNetworkTranslation("VISA", "foo"));
+        assertNull(loc.getNetworkTranslation("VISA", null));
+        assertNull(loc.getNetworkTranslation(null, "sharedKey3"));
+    }
+
     @Test
     public void getSharedLocalizations() {
         Context context = ApplicationProvider.getApplicationContext();
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.UnknownServiceException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.payoneer.checkout.model.ListResult;
+import com.payoneer.checkout.test.util.TestUtils;
+
+/**
+ * The type Base connection test.
+ */
+public class BaseConnectionTest {
+
+    @Test
+    public void readFromInputStream_validJson_decodedWithUTF8() throws IOException {
+        String json = "{\n\"resultInfo\": \"Müller €\",\n\"operationType\": \"CHARGE\"\n}";
+        ListResult result = new ListConnection().readFromInputStream(createConnection(json), ListResult.class);
+        assertEquals("Müller €", result.getResultInfo());
+        assertEquals("CHARGE", result.getOperationType());
+    }
+
+    @Test
+    public void readFromInputStream_localizations_decodedAsMap() throws IOException {
+        String json = "{\"account.number.label\": \"Kartennummer\", \"network.label\": \"Visa\"}";
+        Map<String, String> map = new LocalizationConnection().readFromInputStream(createConnection(json),
+            new TypeToken<Map<String, String>>() {
+            }.getType());
+        assertEquals(2, map.size());
+        assertEquals("Kartennummer", map.get("account.number.label"));
+    }
+
+    @Test
+    public void readFromInputStream_emptyBody_returnsNull() throws IOException {
+        ListResult result = new ListConnection().readFromInputStream(createConnection(""), ListResult.class);
+        assertNull(result);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void readFromInputStream_invalidJson_JsonParseException() throws IOException {
+        new ListConnection().readFromInputStream(createConnection("{\"resultInfo\": [}"), ListResult.class);
+    }
+
+    @Test(expected = IOException.class)
+    public void readFromInputStream_interruptedStream_IOException() throws IOException {
+        HttpURLConnection conn = new TestConnection(TestUtils.createDefaultURL(), null) {
+            @Override
+            public InputStream getInputStream() {
+                return new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new UnknownServiceException("connection reset");
+                    }
+                };
+            }
+        };
+        new ListConnection().readFromInputStream(conn, ListResult.class);
+    }
+
+    private HttpURLConnection createConnection(String body) {
+        return new TestConnection(TestUtils.createDefaultURL(), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class TestConnection extends HttpURLConnection {
+
+        private final byte[] body;
+
+        TestConnection(URL url, byte[] body) {
+            super(url);
+            this.body = body;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+
+        @Override
+        public void connect() {
+        }
+    }
+}
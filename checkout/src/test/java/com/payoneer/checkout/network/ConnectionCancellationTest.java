@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.network;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.payoneer.checkout.core.WorkerFuture;
+import com.payoneer.checkout.test.util.TestUtils;
+
+/**
+ * Tests aborting a request to a server which never responds
+ */
+public class ConnectionCancellationTest {
+
+    private final List<Socket> sockets = new ArrayList<>();
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+        executor = Executors.newCachedThreadPool();
+        Thread thread = new Thread(() -> {
+            try {
+                while (true) {
+                    // accept the connection but never respond
+                    sockets.add(serverSocket.accept());
+                }
+            } catch (IOException e) {
+                // server socket has been closed
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void cancel_requestInFlight_connectionAborted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        LocalizationConnection connection = new LocalizationConnection();
+        WorkerFuture<Object> future = WorkerFuture.supplyAsync(() -> {
+            started.countDown();
+            try {
+                return connection.loadLocalization(TestUtils.createTestURL("http://localhost:" + serverSocket.getLocalPort() + "/VISA.json"));
+            } finally {
+                finished.countDown();
+            }
+        }, executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // give the request time to be sent
+        Thread.sleep(200);
+        future.cancel(true);
+
+        // without aborting the connection the request would block until the read timeout of 30 seconds
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.payoneer.checkout.core.PaymentException;
+import com.payoneer.checkout.test.util.TestUtils;
+
+/**
+ * The type HttpTransport test.
+ */
+public class HttpTransportTest {
+
+    private final static String KEYSTORE = "/mockserver.p12";
+    private final static char[] KEYSTORE_PASSWORD = "password".toCharArray();
+
+    private MockServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockServer(null);
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.stop();
+        HttpTransport.setInstance(new HttpTransport(true));
+    }
+
+    @Test
+    public void loadSession_keepAlive_reusesSingleConnection() throws PaymentException {
+        HttpTransport.setInstance(new HttpTransport(true));
+        loadSession();
+        assertEquals(1, server.getAcceptedConnections());
+    }
+
+    @Test
+    public void loadSession_noKeepAlive_opensConnectionPerRequest() throws PaymentException {
+        HttpTransport.setInstance(new HttpTransport(false));
+        loadSession();
+        assertEquals(3, server.getAcceptedConnections());
+    }
+
+    @Test
+    public void loadSession_tlsKeepAlive_singleHandshake() throws Exception {
+        SSLContext sslContext = createSSLContext();
+        MockServer tlsServer = new MockServer(sslContext);
+        tlsServer.start();
+        try {
+            HttpTransport.setInstance(new TlsTransport(true, sslContext.getSocketFactory()));
+            loadSession(tlsServer);
+            assertEquals(1, tlsServer.getHandshakes());
+        } finally {
+            tlsServer.stop();
+        }
+    }
+
+    @Test
+    public void loadSession_tlsNoKeepAlive_handshakePerRequest() throws Exception {
+        SSLContext sslContext = createSSLContext();
+        MockServer tlsServer = new MockServer(sslContext);
+        tlsServer.start();
+        try {
+            HttpTransport.setInstance(new TlsTransport(false, sslContext.getSocketFactory()));
+            loadSession(tlsServer);
+            assertEquals(3, tlsServer.getHandshakes());
+        } finally {
+            tlsServer.stop();
+        }
+    }
+
+    @Test
+    public void openConnection_noKeepAlive_closeHeaderSet() throws IOException {
+        HttpURLConnection conn = new HttpTransport(false).openConnection(TestUtils.createDefaultURL());
+        assertEquals("close", conn.getRequestProperty("Connection"));
+    }
+
+    @Test
+    public void setKeepAlive() {
+        HttpTransport transport = new HttpTransport(true);
+        assertTrue(transport.isKeepAlive());
+        transport.setKeepAlive(false);
+        assertFalse(transport.isKeepAlive());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setInstance_null_IllegalArgumentException() {
+        HttpTransport.setInstance(null);
+    }
+
+    private void loadSession() throws PaymentException {
+        loadSession(server);
+    }
+
+    private void loadSession(MockServer mockServer) throws PaymentException {
+        ListConnection listConnection = new ListConnection();
+        LocalizationConnection locConnection = new LocalizationConnection();
+        listConnection.getListResult(mockServer.createURL("/lists/1"));
+        locConnection.loadLocalization(mockServer.createURL("/localizations/shared.json"));
+        locConnection.loadLocalization(mockServer.createURL("/localizations/VISA.json"));
+    }
+
+    /**
+     * Create the SSLContext of the server and client from the self-signed localhost certificate in the test keystore
+     */
+    private SSLContext createSSLContext() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = getClass().getResourceAsStream(KEYSTORE)) {
+            keyStore.load(in, KEYSTORE_PASSWORD);
+        }
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        kmf.init(keyStore, KEYSTORE_PASSWORD);
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        tmf.init(keyStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    /**
+     * HttpTransport trusting the self-signed certificate of the MockServer
+     */
+    private static class TlsTransport extends HttpTransport {
+
+        private final SSLSocketFactory socketFactory;
+
+        TlsTransport(boolean keepAlive, SSLSocketFactory socketFactory) {
+            super(keepAlive);
+            this.socketFactory = socketFactory;
+        }
+
+        @Override
+        public HttpURLConnection openConnection(final URL url) throws IOException {
+            HttpURLConnection conn = super.openConnection(url);
+            ((HttpsURLConnection) conn).setSSLSocketFactory(socketFactory);
+            return conn;
+        }
+    }
+
+    /**
+     * In-process HTTP/1.1 server counting the number of accepted socket connections and, when serving HTTPS,
+     * the number of completed TLS handshakes
+     */
+    private static class MockServer implements Runnable {
+
+        private final AtomicInteger acceptedConnections = new AtomicInteger();
+        private final AtomicInteger handshakes = new AtomicInteger();
+        private final SSLContext sslContext;
+        private ServerSocket serverSocket;
+
+        MockServer(SSLContext sslContext) {
+            this.sslContext = sslContext;
+        }
+
+        void start() throws IOException {
+            serverSocket = sslContext != null ? sslContext.getServerSocketFactory().createServerSocket(0) : new ServerSocket(0);
+            Thread thread = new Thread(this);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() throws IOException {
+            serverSocket.close();
+        }
+
+        int getAcceptedConnections() {
+            return acceptedConnections.get();
+        }
+
+        int getHandshakes() {
+            return handshakes.get();
+        }
+
+        URL createURL(String path) {
+            String scheme = sslContext != null ? "https" : "http";
+            return TestUtils.createTestURL(scheme + "://localhost:" + serverSocket.getLocalPort() + path);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Socket socket = serverSocket.accept();
+                    acceptedConnections.incrementAndGet();
+                    Thread thread = new Thread(() -> serve(socket));
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+            } catch (IOException e) {
+                // server socket has been closed
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (Socket s = socket) {
+                if (s instanceof SSLSocket) {
+                    ((SSLSocket) s).startHandshake();
+                    handshakes.incrementAndGet();
+                }
+                serveRequests(s);
+            } catch (IOException e) {
+                // client closed the connection
+            }
+        }
+
+        private void serveRequests(Socket s) throws IOException {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8))) {
+                OutputStream out = s.getOutputStream();
+                boolean keepAlive = true;
+                while (keepAlive) {
+                    String request = readRequest(in);
+                    if (request == null) {
+                        return;
+                    }
+                    keepAlive = !request.toLowerCase().contains("connection: close");
+                    byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+                    String header = "HTTP/1.1 200 OK\r\n"
+                        + "Content-Type: application/json;charset=UTF-8\r\n"
+                        + (keepAlive ? "" : "Connection: close\r\n")
+                        + "Content-Length: " + body.length + "\r\n\r\n";
+                    out.write(header.getBytes(StandardCharsets.UTF_8));
+                    out.write(body);
+                    out.flush();
+                }
+            }
+        }
+
+        private String readRequest(BufferedReader in) throws IOException {
+            StringBuilder request = new StringBuilder();
+            String line = in.readLine();
+            if (line == null) {
+                return null;
+            }
+            while (line != null && !line.isEmpty()) {
+                request.append(line).append("\n");
+                line = in.readLine();
+            }
+            return request.toString();
+        }
+    }
+}
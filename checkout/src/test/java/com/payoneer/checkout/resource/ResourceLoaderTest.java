@@ -9,6 +9,8 @@
 package com.payoneer.checkout.resource;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.Map;
@@ -41,6 +43,23 @@ public class ResourceLoaderTest {
         assertNotNull(groups.get("AMEX"));
     }
 
+    @Test
+    public void loadPaymentGroups_cached() throws PaymentException {
+        Resources res = ApplicationProvider.getApplicationContext().getResources();
+        Map<String, PaymentGroup> groups = ResourceLoader.loadPaymentGroups(res, R.raw.groups);
+        assertSame(groups, ResourceLoader.loadPaymentGroups(res, R.raw.groups));
+
+        PaymentGroup group = groups.get("VISA");
+        assertNotNull(group.getSmartSelectionPattern("VISA"));
+        assertSame(group.getSmartSelectionPattern("VISA"), group.getSmartSelectionPattern("VISA"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void loadPaymentGroups_unmodifiable() throws PaymentException {
+        Resources res = ApplicationProvider.getApplicationContext().getResources();
+        ResourceLoader.loadPaymentGroups(res, R.raw.groups).clear();
+    }
+
     @Test(expected = PaymentException.class)
     public void loadValidations_invalidResourceId() throws PaymentException {
         Resources res = ApplicationProvider.getApplicationContext().getResources();
@@ -65,6 +84,16 @@ public class ResourceLoaderTest {
         validateGroup(validations, "MAESTROUK");
     }
 
+    @Test
+    public void loadValidations_cached() throws PaymentException {
+        Resources res = ApplicationProvider.getApplicationContext().getResources();
+        Map<String, ValidationGroup> validations = ResourceLoader.loadValidations(res, R.raw.validations);
+        assertSame(validations, ResourceLoader.loadValidations(res, R.raw.validations));
+
+        ValidationGroup group = validations.get("VISA");
+        assertSame(group.getGroupItem("number").getPattern(), group.getGroupItem("number").getPattern());
+    }
+
     @Test(expected = IOException.class)
     public void readRawResource_invalidResourceId() throws IOException {
         Resources res = ApplicationProvider.getApplicationContext().getResources();
@@ -76,6 +105,7 @@ public class ResourceLoaderTest {
         Resources res = ApplicationProvider.getApplicationContext().getResources();
         String str = ResourceLoader.readRawResource(res, R.raw.validations);
         assertNotNull(str);
+        assertTrue(str.contains("\n"));
     }
 
     @Test
@@ -90,5 +120,6 @@ public class ResourceLoaderTest {
         assertNotNull(group);
         assertNotNull(group.getValidationRegex("number"));
         assertNotNull(group.getValidationRegex("verificationCode"));
+        assertNotNull(group.getGroupItem("number").getPattern());
     }
 }
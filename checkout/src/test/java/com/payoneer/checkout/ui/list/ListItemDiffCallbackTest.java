@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.list;
+
+import static com.payoneer.checkout.ui.list.ListItemDiffCallback.PAYLOAD_BIND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import com.payoneer.checkout.model.AccountRegistration;
+import com.payoneer.checkout.model.ExtraElements;
+import com.payoneer.checkout.test.util.TestUtils;
+import com.payoneer.checkout.ui.model.AccountCard;
+
+@RunWith(RobolectricTestRunner.class)
+public class ListItemDiffCallbackTest {
+
+    private final ListItemDiffCallback callback = new ListItemDiffCallback();
+
+    @Test
+    public void areItemsTheSame() {
+        ListItem header = new HeaderItem(1, 0, "title", null);
+        assertTrue(callback.areItemsTheSame(header, new HeaderItem(1, 0, "other", null)));
+        assertFalse(callback.areItemsTheSame(header, new HeaderItem(2, 0, "title", null)));
+    }
+
+    @Test
+    public void areContentsTheSame_header() {
+        ListItem header = new HeaderItem(1, 0, "title", "message");
+        assertTrue(callback.areContentsTheSame(header, new HeaderItem(1, 0, "title", "message")));
+        assertFalse(callback.areContentsTheSame(header, new HeaderItem(1, 0, "title", null)));
+        assertFalse(callback.areContentsTheSame(header, new HeaderItem(1, 1, "title", "message")));
+    }
+
+    @Test
+    public void areContentsTheSame_differentCardInstances() {
+        PaymentCardItem oldItem = createCardItem(0, "VISA", "Visa");
+        PaymentCardItem newItem = createCardItem(0, "VISA", "Visa");
+        assertTrue(callback.areContentsTheSame(oldItem, oldItem));
+        assertTrue(callback.areContentsTheSame(oldItem, newItem));
+    }
+
+    @Test
+    public void areContentsTheSame_changedCardContent() {
+        PaymentCardItem oldItem = createCardItem(0, "VISA", "Visa");
+        assertFalse(callback.areContentsTheSame(oldItem, createCardItem(0, "MASTERCARD", "Visa")));
+
+        PaymentCardItem newItem = createCardItem(0, "VISA", "Visa");
+        Map<String, URL> links = new HashMap<>();
+        links.put("self", TestUtils.createTestURL("https://api.example.com/accounts/2"));
+        ((AccountCard) newItem.getPaymentCard()).getAccountRegistration().setLinks(links);
+        assertFalse(callback.areContentsTheSame(oldItem, newItem));
+
+        newItem = createCardItem(0, "VISA", "Visa");
+        newItem.getPaymentCard().setDisabled(true);
+        assertFalse(callback.areContentsTheSame(oldItem, newItem));
+    }
+
+    @Test
+    public void getChangePayload_changedContents() {
+        PaymentCardItem oldItem = createCardItem(0, "VISA", "Visa");
+        PaymentCardItem newItem = createCardItem(0, "VISA", "Visa Debit");
+        assertEquals(PAYLOAD_BIND, callback.getChangePayload(oldItem, newItem));
+    }
+
+    @Test
+    public void getChangePayload_changedViewType() {
+        PaymentCardItem oldItem = createCardItem(0, "VISA", "Visa");
+        PaymentCardItem newItem = createCardItem(1, "VISA", "Visa");
+        assertNull(callback.getChangePayload(oldItem, newItem));
+    }
+
+    private PaymentCardItem createCardItem(int viewType, String code, String label) {
+        AccountRegistration registration = new AccountRegistration();
+        registration.setCode(code);
+        registration.setMethod("CREDIT_CARD");
+        registration.setLabel(label);
+        Map<String, URL> links = new HashMap<>();
+        links.put("self", TestUtils.createTestURL("https://api.example.com/accounts/1"));
+        registration.setLinks(links);
+        AccountCard card = new AccountCard(registration, "", new ExtraElements());
+        return new PaymentCardItem(1, viewType, PaymentCardItem.createLayout(card), card);
+    }
+}
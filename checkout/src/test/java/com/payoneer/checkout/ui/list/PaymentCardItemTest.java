@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import com.payoneer.checkout.model.AccountRegistration;
+import com.payoneer.checkout.model.ExtraElements;
+import com.payoneer.checkout.model.InputElement;
+import com.payoneer.checkout.model.InputElementType;
+import com.payoneer.checkout.ui.model.AccountCard;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentCardItemTest {
+
+    @Test
+    public void createLayout_sameElementsDifferentNetworks() {
+        AccountCard visa = createAccountCard("VISA", "verificationCode");
+        AccountCard mastercard = createAccountCard("MASTERCARD", "verificationCode");
+        assertEquals(PaymentCardItem.createLayout(visa), PaymentCardItem.createLayout(mastercard));
+    }
+
+    @Test
+    public void createLayout_differentElements() {
+        AccountCard visa = createAccountCard("VISA", "verificationCode");
+        AccountCard sepa = createAccountCard("SEPADD", "iban");
+        assertNotEquals(PaymentCardItem.createLayout(visa), PaymentCardItem.createLayout(sepa));
+    }
+
+    private AccountCard createAccountCard(String code, String inputName) {
+        InputElement element = new InputElement();
+        element.setName(inputName);
+        element.setType(InputElementType.STRING);
+        List<InputElement> elements = new ArrayList<>();
+        elements.add(element);
+
+        AccountRegistration registration = new AccountRegistration();
+        registration.setCode(code);
+        registration.setMethod("CREDIT_CARD");
+        registration.setInputElements(elements);
+        return new AccountCard(registration, "", new ExtraElements());
+    }
+}
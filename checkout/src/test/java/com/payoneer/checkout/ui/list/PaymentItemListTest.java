@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import com.payoneer.checkout.model.AccountRegistration;
+import com.payoneer.checkout.model.ExtraElements;
+import com.payoneer.checkout.ui.model.AccountCard;
+
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentItemListTest {
+
+    private final static int LARGE_LIST_CARDS = 500;
+    private final static int LARGE_LIST_VIEW_TYPES = 10;
+
+    @Test
+    public void getItemWithViewType() {
+        PaymentItemList itemList = createItemList();
+        List<ListItem> items = new ArrayList<>();
+        items.add(new HeaderItem(0, 0, "title", null));
+        items.add(createCardItem(1, 1));
+        items.add(createCardItem(2, 1));
+        itemList.onItemsChanged(items);
+
+        assertSame(items.get(0), itemList.getItemWithViewType(0));
+        assertSame(items.get(1), itemList.getItemWithViewType(1));
+        assertNull(itemList.getItemWithViewType(2));
+    }
+
+    @Test
+    public void indexOfItem() {
+        PaymentItemList itemList = createItemList();
+        List<ListItem> items = new ArrayList<>();
+        items.add(new HeaderItem(7, 0, "title", null));
+        items.add(createCardItem(3, 1));
+        itemList.onItemsChanged(items);
+
+        assertEquals(0, itemList.indexOfItem(7));
+        assertEquals(1, itemList.indexOfItem(3));
+        assertEquals(-1, itemList.indexOfItem(5));
+    }
+
+    @Test
+    public void onItemsChanged_replacesIndex() {
+        PaymentItemList itemList = createItemList();
+        List<ListItem> items = new ArrayList<>();
+        items.add(createCardItem(1, 1));
+        itemList.onItemsChanged(items);
+
+        List<ListItem> newItems = new ArrayList<>();
+        newItems.add(createCardItem(2, 2));
+        itemList.onItemsChanged(newItems);
+
+        assertNull(itemList.getItemWithViewType(1));
+        assertEquals(-1, itemList.indexOfItem(1));
+        assertSame(newItems.get(0), itemList.getItemWithViewType(2));
+        assertEquals(1, itemList.getItemCount());
+    }
+
+    /**
+     * Index a session with 500 cards and look up the item of every position by view type,
+     * as done by the ListAdapter when the RecyclerView creates the ViewHolders.
+     */
+    @Test
+    public void onItemsChanged_500Cards() {
+        PaymentItemList itemList = createItemList();
+        List<ListItem> items = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_CARDS; i++) {
+            items.add(createCardItem(i, i % LARGE_LIST_VIEW_TYPES));
+        }
+        itemList.onItemsChanged(items);
+
+        assertEquals(LARGE_LIST_CARDS, itemList.getItemCount());
+        for (int i = 0; i < LARGE_LIST_CARDS; i++) {
+            ListItem item = itemList.getItemWithViewType(itemList.getItemViewType(i));
+            assertEquals(i % LARGE_LIST_VIEW_TYPES, item.viewType);
+            assertEquals(i, itemList.indexOfItem(itemList.getItemId(i)));
+        }
+    }
+
+    private PaymentItemList createItemList() {
+        return new PaymentItemList(new ListUpdateCallback() {
+            @Override
+            public void onInserted(int position, int count) {
+            }
+
+            @Override
+            public void onRemoved(int position, int count) {
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+            }
+
+            @Override
+            public void onChanged(int position, int count, Object payload) {
+            }
+        });
+    }
+
+    private PaymentCardItem createCardItem(long id, int viewType) {
+        AccountRegistration registration = new AccountRegistration();
+        registration.setCode("VISA");
+        registration.setMethod("CREDIT_CARD");
+        AccountCard card = new AccountCard(registration, "", new ExtraElements());
+        return new PaymentCardItem(id, viewType, PaymentCardItem.createLayout(card), card);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class CardPrefixTrieTest {
+
+    /**
+     * Smart selection regexes as defined in groups.json
+     */
+    private final static String[] REGEXES = {
+        "^(6[045]|62212[6-9]|6221[3-9][0-9]|622[2-8][0-9]{2}|6229[01][0-9]|62292[0-5])[0-9]*$",
+        "^(5[0-5]|222[1-9]|22[3-9][0-9]|2[3-6][0-9]{2}|27[01][0-9]|2720)[0-9]*$",
+        "^(2014|2149|30[059]|3[689])[0-9]*$",
+        "^62[0-9]*$",
+        "^3[47][0-9]*$",
+        "^35[0-9]*$",
+        "^4[0-9]*$"
+    };
+
+    @Test
+    public void match_allPrefixes_sameAsRegex() {
+        CardPrefixTrie trie = createTrie();
+        Pattern[] patterns = compile();
+        StringBuilder number = new StringBuilder();
+        for (int length = 0; length <= 6; length++) {
+            int count = (int) Math.pow(10, length);
+            for (int i = 0; i < count; i++) {
+                number.setLength(0);
+                String digits = Integer.toString(i);
+                for (int pad = digits.length(); pad < length; pad++) {
+                    number.append('0');
+                }
+                if (length > 0) {
+                    number.append(digits);
+                }
+                assertMatch(trie, patterns, number.toString());
+                number.append("0123456789");
+                assertMatch(trie, patterns, number.toString());
+            }
+        }
+    }
+
+    @Test
+    public void match_nonDigits_sameAsRegex() {
+        CardPrefixTrie trie = createTrie();
+        Pattern[] patterns = compile();
+        String[] numbers = { "4111 1111", "4a", " 4", "4 ", "37-1", "٤١١١", "-" };
+        for (String number : numbers) {
+            assertMatch(trie, patterns, number);
+        }
+    }
+
+    @Test
+    public void add_unsupportedRegex() {
+        CardPrefixTrie trie = new CardPrefixTrie();
+        assertFalse(trie.add(0, "^4\\d*$"));
+        assertFalse(trie.add(0, "^62|4[0-9]*$"));
+        assertFalse(trie.add(0, "^4[0-9]{12}$"));
+        assertFalse(trie.add(0, "^(4|5)+[0-9]*$"));
+        assertFalse(trie.add(CardPrefixTrie.MAX_BRANDS, "^4[0-9]*$"));
+        assertTrue(trie.add(0, "^[0-9]*$"));
+        assertEquals(1L, trie.match(""));
+    }
+
+    private void assertMatch(CardPrefixTrie trie, Pattern[] patterns, String number) {
+        long expected = 0;
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].matcher(number).matches()) {
+                expected |= 1L << i;
+            }
+        }
+        assertEquals(number, expected, trie.match(number));
+    }
+
+    private CardPrefixTrie createTrie() {
+        CardPrefixTrie trie = new CardPrefixTrie();
+        for (int i = 0; i < REGEXES.length; i++) {
+            assertTrue(REGEXES[i], trie.add(i, REGEXES[i]));
+        }
+        return trie;
+    }
+
+    private Pattern[] compile() {
+        Pattern[] patterns = new Pattern[REGEXES.length];
+        for (int i = 0; i < REGEXES.length; i++) {
+            patterns[i] = Pattern.compile(REGEXES[i]);
+        }
+        return patterns;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.model;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import com.payoneer.checkout.model.AccountRegistration;
+import com.payoneer.checkout.model.ExtraElements;
+
+import android.os.Parcelable;
+import android.util.SparseArray;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentCardTest {
+
+    @Test
+    public void restoreUserInput() {
+        AccountCard previous = createAccountCard();
+        SparseArray<Parcelable> state = new SparseArray<>();
+        previous.onTextInputChanged("verificationCode", "123");
+        previous.putWidgetState("inputelement.verificationCode", state);
+
+        AccountCard card = createAccountCard();
+        assertFalse(card.hasUserInputData());
+        card.restoreUserInput(previous);
+
+        assertTrue(card.hasUserInputData());
+        assertSame(state, card.getWidgetState("inputelement.verificationCode"));
+        assertTrue(card.consumeRestoredUserInput());
+        assertFalse(card.consumeRestoredUserInput());
+    }
+
+    @Test
+    public void restoreUserInput_emptyInput() {
+        AccountCard previous = createAccountCard();
+        previous.onTextInputChanged("verificationCode", "123");
+        previous.onTextInputChanged("verificationCode", "");
+
+        AccountCard card = createAccountCard();
+        card.restoreUserInput(previous);
+        assertFalse(card.hasUserInputData());
+        assertNull(card.getWidgetState("inputelement.verificationCode"));
+        assertFalse(card.consumeRestoredUserInput());
+    }
+
+    private AccountCard createAccountCard() {
+        AccountRegistration registration = new AccountRegistration();
+        registration.setCode("VISA");
+        registration.setMethod("CREDIT_CARD");
+        return new AccountCard(registration, "", new ExtraElements());
+    }
+}
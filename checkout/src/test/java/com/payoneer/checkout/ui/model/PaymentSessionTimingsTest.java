@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.model;
+
+import static com.payoneer.checkout.ui.model.PaymentSessionTimings.PHASE_LIST;
+import static com.payoneer.checkout.ui.model.PaymentSessionTimings.PHASE_LOCALIZATIONS;
+import static com.payoneer.checkout.ui.model.PaymentSessionTimings.PHASE_RISK;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class PaymentSessionTimingsTest {
+
+    @Test
+    public void getTiming() {
+        PaymentSessionTimings timings = new PaymentSessionTimings();
+        timings.putTiming(PHASE_LIST, 120);
+        assertEquals(120, timings.getTiming(PHASE_LIST));
+        assertEquals(-1, timings.getTiming(PHASE_RISK));
+    }
+
+    @Test
+    public void getTimings_executionOrder() {
+        PaymentSessionTimings timings = new PaymentSessionTimings();
+        timings.putTiming(PHASE_LIST, 120);
+        timings.putTiming(PHASE_LOCALIZATIONS, 300);
+        timings.putTiming(PHASE_RISK, 5);
+        assertArrayEquals(new String[] { PHASE_LIST, PHASE_LOCALIZATIONS, PHASE_RISK },
+            timings.getTimings().keySet().toArray(new String[0]));
+        assertEquals(425, timings.getTotal());
+    }
+}
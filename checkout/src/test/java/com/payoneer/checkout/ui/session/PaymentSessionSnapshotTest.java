@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.ui.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import com.payoneer.checkout.model.Interaction;
+import com.payoneer.checkout.model.ListResult;
+import com.payoneer.checkout.model.Payment;
+import com.payoneer.checkout.test.util.TestUtils;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentSessionSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void save_load_listResultRestored() {
+        PaymentSessionSnapshot snapshot = new PaymentSessionSnapshot(folder.getRoot(), PaymentSessionSnapshot.DEFAULT_MAX_AGE);
+        URL listURL = TestUtils.createTestURL("https://api.example.com/lists/1");
+        snapshot.save(listURL, createListResult());
+
+        ListResult listResult = snapshot.load(listURL);
+        assertNotNull(listResult);
+        assertEquals("CHARGE", listResult.getOperationType());
+        assertEquals("PROCEED", listResult.getInteraction().getCode());
+    }
+
+    @Test
+    public void save_paymentAndResultInfo_notStored() {
+        PaymentSessionSnapshot snapshot = new PaymentSessionSnapshot(folder.getRoot(), PaymentSessionSnapshot.DEFAULT_MAX_AGE);
+        URL listURL = TestUtils.createTestURL("https://api.example.com/lists/1");
+        ListResult source = createListResult();
+        Payment payment = new Payment();
+        payment.setReference("reference");
+        source.setPayment(payment);
+        source.setResultInfo("resultInfo");
+        snapshot.save(listURL, source);
+
+        ListResult listResult = snapshot.load(listURL);
+        assertNotNull(listResult);
+        assertNull(listResult.getPayment());
+        assertNull(listResult.getResultInfo());
+    }
+
+    @Test
+    public void load_otherList_null() {
+        PaymentSessionSnapshot snapshot = new PaymentSessionSnapshot(folder.getRoot(), PaymentSessionSnapshot.DEFAULT_MAX_AGE);
+        snapshot.save(TestUtils.createTestURL("https://api.example.com/lists/1"), createListResult());
+        assertNull(snapshot.load(TestUtils.createTestURL("https://api.example.com/lists/2")));
+    }
+
+    @Test
+    public void load_expired_null() {
+        PaymentSessionSnapshot snapshot = new PaymentSessionSnapshot(folder.getRoot(), -1);
+        URL listURL = TestUtils.createTestURL("https://api.example.com/lists/1");
+        snapshot.save(listURL, createListResult());
+        assertNull(snapshot.load(listURL));
+    }
+
+    @Test
+    public void load_corruptFile_null() throws IOException {
+        PaymentSessionSnapshot snapshot = new PaymentSessionSnapshot(folder.getRoot(), PaymentSessionSnapshot.DEFAULT_MAX_AGE);
+        File file = new File(folder.getRoot(), "session.snapshot");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] { 1, 2, 3 });
+        }
+        assertNull(snapshot.load(TestUtils.createTestURL("https://api.example.com/lists/1")));
+    }
+
+    @Test
+    public void clear_snapshotRemoved() {
+        PaymentSessionSnapshot snapshot = new PaymentSessionSnapshot(folder.getRoot(), PaymentSessionSnapshot.DEFAULT_MAX_AGE);
+        URL listURL = TestUtils.createTestURL("https://api.example.com/lists/1");
+        snapshot.save(listURL, createListResult());
+        snapshot.clear();
+        assertNull(snapshot.load(listURL));
+    }
+
+    private static ListResult createListResult() {
+        ListResult listResult = new ListResult();
+        listResult.setOperationType("CHARGE");
+        listResult.setInteraction(new Interaction("PROCEED", "OK"));
+        return listResult;
+    }
+}
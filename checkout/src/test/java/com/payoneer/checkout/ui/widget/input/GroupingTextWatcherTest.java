@@ -10,6 +10,9 @@ package com.payoneer.checkout.ui.widget.input;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
@@ -74,6 +77,61 @@ public class GroupingTextWatcherTest {
         validateTextInput(watcher, result, "9", "1234 5678 9");
     }
 
+    @Test
+    public void deleteCharacterTest() {
+        Context context = ApplicationProvider.getApplicationContext();
+        EditText editText = new EditText(context);
+        RecordingWatcher watcher = new RecordingWatcher(4, editText);
+
+        assertEquals("1234 5", simulateTextChange(watcher, "1234 56", 6, 1, ""));
+        assertEquals("1234", simulateTextChange(watcher, "1234 5", 5, 1, ""));
+        assertEquals("1235 6", simulateTextChange(watcher, "1234 56", 4, 1, ""));
+        assertEquals(3, watcher.cursor);
+        assertEquals("2345 6", simulateTextChange(watcher, "1234 56", 0, 1, ""));
+        assertEquals(0, watcher.cursor);
+    }
+
+    @Test
+    public void insertCharacterInGroupTest() {
+        Context context = ApplicationProvider.getApplicationContext();
+        EditText editText = new EditText(context);
+        RecordingWatcher watcher = new RecordingWatcher(4, editText);
+
+        assertEquals("1290 3456 78", simulateTextChange(watcher, "1234 5678", 2, 0, "90"));
+        assertEquals(4, watcher.cursor);
+    }
+
+    /**
+     * Property based test verifying that random inserts, deletes, replacements and pastes on random input
+     * produce the same text and cursor as the regular expression based implementation.
+     */
+    @Test
+    public void randomTextChangesTest() {
+        Context context = ApplicationProvider.getApplicationContext();
+        EditText editText = new EditText(context);
+        Random random = new Random(20220301L);
+
+        for (int run = 0; run < 200; run++) {
+            int groupSize = 1 + random.nextInt(6);
+            RecordingWatcher watcher = new RecordingWatcher(groupSize, editText);
+            String text = "";
+
+            for (int step = 0; step < 40; step++) {
+                int start = random.nextInt(text.length() + 1);
+                int count = random.nextInt(4) == 0 ? 0 : random.nextInt(Math.min(3, text.length() - start) + 1);
+                String insert = random.nextInt(3) == 0 ? "" : randomInput(random, 1 + random.nextInt(random.nextBoolean() ? 2 : 12));
+
+                Result expected = referenceTextChange(groupSize, text, start, count, insert);
+                String actual = simulateTextChange(watcher, text, start, count, insert);
+                String message = "groupSize=" + groupSize + ", text=\"" + text + "\", start=" + start
+                    + ", count=" + count + ", insert=\"" + insert + "\"";
+                assertEquals(message, expected.text, actual);
+                assertEquals(message, expected.cursor, watcher.cursor);
+                text = actual;
+            }
+        }
+    }
+
     private static String validateTextInput(TextWatcher watcher, String current, String input, String result) {
         String val = simulateTextInput(watcher, current, input);
         assertEquals(result, val);
@@ -89,4 +147,84 @@ public class GroupingTextWatcherTest {
         tw.afterTextChanged(editable);
         return editable.toString();
     }
+
+    private static String simulateTextChange(RecordingWatcher watcher, String original, int start, int count, String insert) {
+        watcher.cursor = -1;
+        watcher.beforeTextChanged(original, start, count, insert.length());
+        Editable editable = new SpannableStringBuilder(original);
+        editable.replace(start, start + count, insert);
+        watcher.afterTextChanged(editable);
+        return editable.toString();
+    }
+
+    private static String randomInput(Random random, int length) {
+        final String characters = "0123456789abcXYZ_ -é";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            // Favor digits and letters, spaces and other characters are less likely to be typed
+            int range = random.nextInt(5) == 0 ? characters.length() : 16;
+            sb.append(characters.charAt(random.nextInt(range)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reference implementation of the text change using regular expressions, this is how the
+     * GroupingTextWatcher used to correct the input.
+     */
+    private static Result referenceTextChange(int groupSize, String previousText, int start, int deleteLength, String insert) {
+        String afterText = previousText.substring(0, start) + insert + previousText.substring(start + deleteLength);
+        int insertLength = insert.length();
+        Pattern inputPattern = Pattern.compile("(\\w{" + groupSize + "} )*\\w{1," + groupSize + "}");
+
+        if (previousText.equals(afterText) || inputPattern.matcher(afterText).matches()) {
+            return new Result(afterText, -1);
+        }
+        String newString = previousText.substring(0, start);
+        int cursor = start;
+
+        if (deleteLength > 0 && afterText.length() > 0 && (previousText.charAt(start) == ' ' || start == afterText.length())) {
+            newString = previousText.substring(0, start - 1);
+            --cursor;
+        }
+        if (insertLength > 0) {
+            newString += afterText.substring(start, start + insertLength);
+            newString = referenceCorrectInput(groupSize, newString);
+            cursor = newString.length();
+        }
+        newString += previousText.substring(start + deleteLength);
+        return new Result(referenceCorrectInput(groupSize, newString), cursor);
+    }
+
+    private static String referenceCorrectInput(int groupSize, String input) {
+        StringBuilder sbs = new StringBuilder(input.replaceAll(" ", ""));
+        for (int i = groupSize; i < sbs.length(); i += groupSize + 1) {
+            sbs.insert(i, ' ');
+        }
+        return sbs.toString();
+    }
+
+    private static class Result {
+        final String text;
+        final int cursor;
+
+        Result(String text, int cursor) {
+            this.text = text;
+            this.cursor = cursor;
+        }
+    }
+
+    private static class RecordingWatcher extends GroupingTextWatcher {
+        int cursor;
+
+        RecordingWatcher(int groupSize, EditText editText) {
+            super(groupSize, editText);
+        }
+
+        @Override
+        public void setCursor(int cursor) {
+            this.cursor = cursor;
+            super.setCursor(cursor);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LogoDecoderTest {
+
+    @Test
+    public void calculateInSampleSize_unknownSize_noSampling() {
+        assertEquals(1, LogoDecoder.calculateInSampleSize(400, 300, 0, 0));
+        assertEquals(1, LogoDecoder.calculateInSampleSize(400, 300, 100, 0));
+    }
+
+    @Test
+    public void calculateInSampleSize_smallerImage_noSampling() {
+        assertEquals(1, LogoDecoder.calculateInSampleSize(50, 30, 100, 66));
+    }
+
+    @Test
+    public void calculateInSampleSize_largerImage_keepsRequestedSize() {
+        // a 36x24dp logo on a xxhdpi device
+        assertEquals(4, LogoDecoder.calculateInSampleSize(512, 340, 108, 72));
+        assertEquals(2, LogoDecoder.calculateInSampleSize(400, 300, 108, 72));
+        assertEquals(8, LogoDecoder.calculateInSampleSize(1024, 1024, 108, 72));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class LogoDiskCacheTest {
+
+    private final static String URL = "https://localhost/networklogos/visa.png";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void put_get_restoresImageData() throws IOException {
+        File directory = folder.newFolder();
+        byte[] data = createImageData(100);
+        new LogoDiskCache(directory, LogoDiskCache.DEFAULT_MAX_SIZE, LogoDiskCache.DEFAULT_MAX_AGE).put(URL, data);
+
+        // a new disk cache instance on the same directory mimics a restarted process
+        LogoDiskCache diskCache = new LogoDiskCache(directory, LogoDiskCache.DEFAULT_MAX_SIZE, LogoDiskCache.DEFAULT_MAX_AGE);
+        assertArrayEquals(data, diskCache.get(URL));
+    }
+
+    @Test
+    public void get_unknownUrl_returnsNull() throws IOException {
+        LogoDiskCache diskCache = new LogoDiskCache(folder.newFolder(), LogoDiskCache.DEFAULT_MAX_SIZE, LogoDiskCache.DEFAULT_MAX_AGE);
+        assertNull(diskCache.get(URL));
+    }
+
+    @Test
+    public void get_expired_returnsNull() throws IOException {
+        File directory = folder.newFolder();
+        LogoDiskCache diskCache = new LogoDiskCache(directory, LogoDiskCache.DEFAULT_MAX_SIZE, 1000);
+        diskCache.put(URL, createImageData(100));
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        assertTrue(files[0].setLastModified(System.currentTimeMillis() - 5000));
+        assertNull(diskCache.get(URL));
+        assertEquals(0, diskCache.size());
+    }
+
+    @Test
+    public void put_exceedsMaxSize_evictsOldest() throws IOException {
+        File directory = folder.newFolder();
+        LogoDiskCache diskCache = new LogoDiskCache(directory, 1024, LogoDiskCache.DEFAULT_MAX_AGE);
+        String oldUrl = "https://localhost/networklogos/mastercard.png";
+        diskCache.put(oldUrl, createImageData(600));
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        assertTrue(files[0].setLastModified(System.currentTimeMillis() - 5000));
+
+        diskCache.put(URL, createImageData(600));
+        assertNull(diskCache.get(oldUrl));
+        assertNotNull(diskCache.get(URL));
+    }
+
+    private byte[] createImageData(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.widget.ImageView;
+import androidx.test.core.app.ApplicationProvider;
+
+@RunWith(RobolectricTestRunner.class)
+public class NetworkLogoLoaderTest {
+
+    private final static String LOGO_URL = "https://resources.example.com/networklogos/test.png";
+
+    @Test
+    public void clearImage_evictedBitmap_isPooled() throws MalformedURLException {
+        NetworkLogoLoader loader = new NetworkLogoLoader();
+        ImageView view = new ImageView(ApplicationProvider.getApplicationContext());
+        Bitmap bitmap = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        loader.memoryCache.put(LOGO_URL + "@0x0", bitmap);
+
+        loader.loadImageIntoView(view, "TEST", new URL(LOGO_URL));
+        assertSame(bitmap, ((BitmapDrawable) view.getDrawable()).getBitmap());
+
+        // the Bitmap is still shown in the ImageView and may not be reused
+        loader.clearMemoryCache();
+        assertEquals(0, loader.bitmapPool.size());
+
+        loader.clearImage(view);
+        assertNull(view.getDrawable());
+        assertEquals(bitmap.getAllocationByteCount(), loader.bitmapPool.size());
+    }
+
+    @Test
+    public void clearImage_cachedBitmap_isNotPooled() throws MalformedURLException {
+        NetworkLogoLoader loader = new NetworkLogoLoader();
+        Context context = ApplicationProvider.getApplicationContext();
+        ImageView view = new ImageView(context);
+        Bitmap bitmap = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        loader.memoryCache.put(LOGO_URL + "@0x0", bitmap);
+
+        loader.loadImageIntoView(view, "TEST", new URL(LOGO_URL));
+        loader.clearImage(view);
+        assertEquals(0, loader.bitmapPool.size());
+
+        // the Bitmap is pooled once it is evicted from the memory cache
+        loader.clearMemoryCache();
+        assertEquals(bitmap.getAllocationByteCount(), loader.bitmapPool.size());
+    }
+}
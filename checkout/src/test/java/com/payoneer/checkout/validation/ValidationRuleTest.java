@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022 Payoneer Germany GmbH
+ * https://www.payoneer.com
+ *
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more information.
+ */
+
+package com.payoneer.checkout.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ValidationRuleTest {
+
+    private final static String[] REGEXES = {
+        Validator.REGEX_ACCOUNT_NUMBER,
+        Validator.REGEX_VERIFICATION_CODE,
+        Validator.REGEX_BANK_CODE,
+        "^[0-9]{3}$",
+        "^[0-9]{4}$",
+        "[0-9]{2,4}",
+        "^[0-9]{2,}$",
+        "^4(?:[0-9]{12}|[0-9]{15})$",
+        "^3[47][0-9]{13}$"
+    };
+
+    private final static String[] VALUES = {
+        "", "1", "12", "123", "1234", "12345", "12a", "a12", " 123", "123 ", "١٢٣",
+        "4111111111111", "4111111111111111", "378282246310005", "371449635398431a"
+    };
+
+    @Test
+    public void matches_sameAsStringMatches() {
+        for (String regex : REGEXES) {
+            ValidationRule rule = ValidationRule.compile(regex);
+            for (String value : VALUES) {
+                assertEquals(regex + " / " + value, value.matches(regex), rule.matches(value));
+            }
+        }
+    }
+
+    @Test
+    public void matches_digits() {
+        ValidationRule rule = ValidationRule.compile("^[0-9]{3}$");
+        assertTrue(rule.matches("123"));
+        assertFalse(rule.matches("12"));
+        assertFalse(rule.matches("1234"));
+        assertFalse(rule.matches("12a"));
+    }
+}